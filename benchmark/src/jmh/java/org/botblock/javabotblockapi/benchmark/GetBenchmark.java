@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.benchmark;
+
+import org.botblock.javabotblockapi.emulator.BotBlockEmulator;
+import org.botblock.javabotblockapi.requests.CacheSettings;
+import org.botblock.javabotblockapi.requests.handler.RequestHandler;
+import org.botblock.javabotblockapi.requests.objects.BotInfo;
+import org.botblock.javabotblockapi.requests.objects.ListInfo;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * GET requests against the local BotBlockEmulator, with and without the Caffeine caches of the RequestHandler.
+ * The uncached benchmarks include the HTTP round trip and the parsing of the response, the cached ones only the lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GetBenchmark{
+    
+    private static final String USER_AGENT = "JavaBotBlockAPI-Benchmark/1.0";
+    private static final String BOT_ID = "123456789012345678";
+    
+    private BotBlockEmulator emulator;
+    private RequestHandler cached;
+    private RequestHandler bounded;
+    private long nextId = 0;
+    
+    @Setup(Level.Trial)
+    public void setup() throws IOException{
+        emulator = new BotBlockEmulator();
+        emulator.addBot(Responses.botJson());
+        for(int i = 0; i < Responses.SITES; i++)
+            emulator.addList(Responses.listJson(i));
+        
+        cached = new RequestHandler(USER_AGENT, CacheSettings.getDefault(), emulator.getBaseUrl());
+        
+        // Small enough that a few bots already exceed it, so lookups of new ids go through the loader and evictions.
+        CacheSettings boundedSettings = new CacheSettings.Builder()
+                .setMaximumWeight(64 * 1024)
+                .build();
+        bounded = new RequestHandler(USER_AGENT, boundedSettings, emulator.getBaseUrl());
+        
+        // Warm up the caches for the hit benchmarks.
+        cached.performGetBot(BOT_ID, false);
+        cached.performGetList(null, false, false);
+        cached.performGetListInfo(Responses.site(0), false);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        cached.close();
+        bounded.close();
+        emulator.close();
+    }
+    
+    @Benchmark
+    public JSONObject botUncached(){
+        return cached.performGetBot(BOT_ID, true);
+    }
+    
+    @Benchmark
+    public JSONObject botCacheHit(){
+        return cached.performGetBot(BOT_ID, false);
+    }
+    
+    @Benchmark
+    public JSONObject botCacheMiss(){
+        return bounded.performGetBot(String.valueOf(nextId++), false);
+    }
+    
+    @Benchmark
+    public BotInfo botInfoCacheHit(){
+        return cached.performGetBotInfo(BOT_ID, false);
+    }
+    
+    @Benchmark
+    public JSONObject listsUncached(){
+        return cached.performGetList(null, true, false);
+    }
+    
+    @Benchmark
+    public JSONObject listsCacheHit(){
+        return cached.performGetList(null, false, false);
+    }
+    
+    @Benchmark
+    public Map<String, ListInfo> listInfosCacheHit(){
+        return cached.performGetListInfos(false, false);
+    }
+    
+    @Benchmark
+    public ListInfo listInfoCacheHit(){
+        return cached.performGetListInfo(Responses.site(0), false);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.benchmark;
+
+import org.botblock.javabotblockapi.requests.GetListAction;
+import org.botblock.javabotblockapi.requests.objects.BotInfo;
+import org.botblock.javabotblockapi.requests.objects.ListInfo;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Parsing of the API responses and extraction of single fields, without any HTTP involved.
+ * The raw* benchmarks read the same fields from the JSONObject, like the GetListAction did before ListInfo existed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParseBenchmark{
+    
+    private final String botResponse = Responses.botJson().toString();
+    private final String listsResponse = Responses.listsJson().toString();
+    private final String countResponse = Responses.countJson().toString();
+    
+    private final JSONObject list = Responses.listJson(0);
+    private final ListInfo listInfo = new ListInfo(list);
+    private final JSONObject bot = Responses.botJson();
+    
+    @Benchmark
+    public JSONObject parseBot(){
+        return new JSONObject(botResponse);
+    }
+    
+    @Benchmark
+    public BotInfo parseBotInfo(){
+        return new BotInfo(new JSONObject(botResponse));
+    }
+    
+    @Benchmark
+    public JSONObject parseLists(){
+        return new JSONObject(listsResponse);
+    }
+    
+    @Benchmark
+    public void parseListInfos(Blackhole blackhole){
+        JSONObject lists = new JSONObject(listsResponse);
+        for(String key : lists.keySet())
+            blackhole.consume(new ListInfo(lists.getJSONObject(key)));
+    }
+    
+    @Benchmark
+    public JSONObject parseCountResult(){
+        return new JSONObject(countResponse);
+    }
+    
+    @Benchmark
+    public void listInfoFields(Blackhole blackhole){
+        blackhole.consume(listInfo.getName());
+        blackhole.consume(listInfo.getUrl());
+        blackhole.consume(listInfo.isDefunct());
+        blackhole.consume(listInfo.getApiField(GetListAction.ApiField.STRING_SERVER_COUNT));
+        blackhole.consume(listInfo.getApiField(GetListAction.ApiField.STRING_SHARDS));
+    }
+    
+    @Benchmark
+    public void rawListFields(Blackhole blackhole){
+        blackhole.consume(list.optString("name", null));
+        blackhole.consume(list.optString("url", null));
+        blackhole.consume(list.optInt("defunct", 0) == 1);
+        blackhole.consume(list.optString("api_field", null));
+        blackhole.consume(list.optString("api_shards", null));
+    }
+    
+    @Benchmark
+    public String botToString(){
+        return bot.toString();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.benchmark;
+
+import org.botblock.javabotblockapi.core.BotBlockAPI;
+import org.botblock.javabotblockapi.requests.handler.PostPayload;
+import org.botblock.javabotblockapi.requests.handler.PostTemplate;
+import org.botblock.javabotblockapi.requests.handler.RequestHandler;
+import org.botblock.javabotblockapi.requests.handler.ShardCounts;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Construction of the POST payloads of the PostActions, up to the bytes handed to the HttpTransport.
+ * JDA and Javacord objects aren't created here, so the benchmarks use the same building blocks the PostActions use:
+ * - request: payload(serverCount)
+ * - JDA: payload(serverCount, shardId, shardCount) per shard and payload(serverCount, ShardCounts) for a ShardManager
+ * - Javacord: payload(serverCount, ShardCounts)
+ * The json* benchmarks build the payloads through a JSONObject, like the PostActions did before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PayloadBenchmark{
+    
+    private static final String BOT_ID = "123456789012345678";
+    
+    @Param({"1", "1000", "10000"})
+    public int shards;
+    
+    private RequestHandler requestHandler;
+    private BotBlockAPI botBlockAPI;
+    private PostTemplate template;
+    private long[] counts;
+    private long total;
+    
+    @Setup
+    public void setup(){
+        BotBlockAPI.Builder builder = new BotBlockAPI.Builder();
+        for(int i = 0; i < 10; i++)
+            builder.addAuthToken(Responses.site(i), "token-" + i + "-abcdefghijklmnopqrstuvwxyz0123456789");
+        
+        botBlockAPI = builder.build();
+        requestHandler = new RequestHandler("JavaBotBlockAPI-Benchmark/1.0");
+        template = requestHandler.getPostTemplate(BOT_ID, botBlockAPI);
+        
+        counts = new long[shards];
+        for(int i = 0; i < shards; i++){
+            counts[i] = 1000 + i % 500;
+            total += counts[i];
+        }
+    }
+    
+    @TearDown
+    public void tearDown(){
+        requestHandler.close();
+    }
+    
+    @Benchmark
+    public long requestPayload(){
+        return write(template.payload(total));
+    }
+    
+    @Benchmark
+    public long jdaShardPayload(){
+        return write(template.payload(counts[0], 0, shards));
+    }
+    
+    @Benchmark
+    public long shardsPayload(){
+        return write(template.payload(total, ShardCounts.of(counts)));
+    }
+    
+    @Benchmark
+    public long jsonRequestPayload(){
+        JSONObject json = new JSONObject()
+                .put("server_count", total)
+                .put("bot_id", BOT_ID);
+        
+        return writeJson(json);
+    }
+    
+    @Benchmark
+    public long jsonShardsPayload(){
+        List<Long> boxed = new ArrayList<>(shards);
+        for(long count : counts)
+            boxed.add(count);
+        
+        JSONObject json = new JSONObject()
+                .put("server_count", total)
+                .put("bot_id", BOT_ID)
+                .put("shards", new JSONArray(Arrays.deepToString(boxed.toArray())));
+        
+        return writeJson(json);
+    }
+    
+    private long write(PostPayload payload){
+        return payload.toByteArray().length;
+    }
+    
+    private long writeJson(JSONObject json){
+        botBlockAPI.getTokens().forEach(json::put);
+        
+        return json.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+}
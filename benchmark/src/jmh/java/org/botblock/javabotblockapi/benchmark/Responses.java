@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.benchmark;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/*
+ * Responses of the BotBlock API used by the benchmarks. They mirror the shape of the real ones.
+ */
+final class Responses{
+    
+    static final int SITES = 60;
+    
+    private Responses(){}
+    
+    static JSONObject botJson(){
+        JSONObject listData = new JSONObject();
+        for(int i = 0; i < SITES; i++)
+            listData.put(site(i), new JSONArray().put(new JSONObject().put("id", "123456789012345678").put("server_count", 1234)).put(200));
+        
+        return new JSONObject()
+                .put("id", "123456789012345678")
+                .put("username", "Benchmark")
+                .put("discriminator", "0001")
+                .put("owners", new JSONArray().put("234567890123456789").put("345678901234567890"))
+                .put("server_count", 1234)
+                .put("invite", "https://discord.com/oauth2/authorize?client_id=123456789012345678&scope=bot")
+                .put("prefix", "!")
+                .put("website", "https://example.com")
+                .put("github", "https://github.com/example/bot")
+                .put("support", "https://discord.gg/example")
+                .put("library", "JDA")
+                .put("list_data", listData);
+    }
+    
+    static JSONObject listJson(int i){
+        return new JSONObject()
+                .put("id", site(i))
+                .put("added", 1560000000 + i)
+                .put("name", "Bot List " + i)
+                .put("url", "https://" + site(i))
+                .put("icon", "https://" + site(i) + "/icon.png")
+                .put("language", "English")
+                .put("display", 1)
+                .put("defunct", i % 10 == 0 ? 1 : 0)
+                .put("discord_only", 1)
+                .put("description", "Description of bot list " + i)
+                .put("api_docs", "https://" + site(i) + "/docs")
+                .put("api_post", "https://" + site(i) + "/api/bots/:id/stats")
+                .put("api_field", "server_count")
+                .put("api_shard_id", "shard_id")
+                .put("api_shard_count", "shard_count")
+                .put("api_shards", "shards")
+                .put("api_get", "https://" + site(i) + "/api/bots/:id")
+                .put("api_all", JSONObject.NULL)
+                .put("view_bot", "https://" + site(i) + "/bots/:id")
+                .put("bot_widget", "https://" + site(i) + "/api/widget/:id.svg")
+                .put("content", JSONObject.NULL)
+                .put("owners", "Owner " + i)
+                .put("discord", "https://discord.gg/list" + i)
+                .put("features", new JSONArray()
+                        .put(new JSONObject().put("name", "Has Ads").put("id", "has_ads").put("display", 0).put("type", 1).put("value", 0))
+                        .put(new JSONObject().put("name", "Widget").put("id", "widget").put("display", 3).put("type", 0).put("value", 1)));
+    }
+    
+    static JSONObject listsJson(){
+        JSONObject lists = new JSONObject();
+        for(int i = 0; i < SITES; i++)
+            lists.put(site(i), listJson(i));
+        
+        return lists;
+    }
+    
+    static JSONObject countJson(){
+        JSONObject success = new JSONObject();
+        for(int i = 0; i < SITES; i++)
+            success.put(site(i), new JSONArray().put(200).put("{\"success\":true}"));
+        
+        return new JSONObject().put("success", success).put("failure", new JSONObject());
+    }
+    
+    static String site(int i){
+        return "list" + i + ".xyz";
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.benchmark;
+
+import org.botblock.javabotblockapi.core.BotBlockAPI;
+import org.botblock.javabotblockapi.emulator.BotBlockEmulator;
+import org.botblock.javabotblockapi.requests.CacheSettings;
+import org.botblock.javabotblockapi.requests.handler.PostPayload;
+import org.botblock.javabotblockapi.requests.handler.RequestHandler;
+import org.botblock.javabotblockapi.requests.objects.PostResult;
+import org.botblock.javabotblockapi.requests.transport.HttpTransport;
+import org.botblock.javabotblockapi.requests.transport.JdkHttpTransport;
+import org.botblock.javabotblockapi.requests.transport.OkHttpTransport;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * The HttpTransports against each other, with uncached requests against the local BotBlockEmulator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransportBenchmark{
+    
+    private static final String BOT_ID = "123456789012345678";
+    
+    @Param({"okhttp", "jdk"})
+    public String transport;
+    
+    private BotBlockEmulator emulator;
+    private HttpTransport httpTransport;
+    private RequestHandler requestHandler;
+    private PostPayload payload;
+    
+    @Setup(Level.Trial)
+    public void setup() throws IOException{
+        emulator = new BotBlockEmulator();
+        emulator.addBot(Responses.botJson());
+        
+        httpTransport = transport.equals("jdk") ? new JdkHttpTransport() : new OkHttpTransport();
+        requestHandler = new RequestHandler("JavaBotBlockAPI-Benchmark/1.0", CacheSettings.disabled(), emulator.getBaseUrl(), httpTransport);
+        
+        BotBlockAPI.Builder builder = new BotBlockAPI.Builder();
+        for(int i = 0; i < 10; i++)
+            builder.addAuthToken(Responses.site(i), "token-" + i);
+        
+        payload = requestHandler.getPostTemplate(BOT_ID, builder.build()).payload(1234);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        requestHandler.close();
+        httpTransport.close();
+        emulator.close();
+    }
+    
+    @Benchmark
+    public JSONObject getBot(){
+        return requestHandler.performGetBot(BOT_ID, true);
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public JSONObject getBotConcurrent(){
+        return requestHandler.performGetBot(BOT_ID, true);
+    }
+    
+    @Benchmark
+    public PostResult post() throws IOException{
+        return requestHandler.performPOST(payload);
+    }
+}
@@ -21,6 +21,7 @@ package org.botblock.javabotblockapi.core;
 import javax.annotation.Nonnull;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class used to define the auth-tokens used for the different sites.
@@ -33,15 +34,38 @@ public class BotBlockAPI{
      */
     public static final int DEFAULT_DELAY = 30;
     
+    /**
+     * Default amount of intervals after which an unchanged payload is posted again. Used for when no own interval was
+     * defined with {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setForcePostInterval(int) BotBlock.Builder.setForcePostInterval(int)}
+     */
+    public static final int DEFAULT_FORCE_POST_INTERVAL = 6;
+    
+    /**
+     * Default time in milliseconds for how long the token of a failing site is left out of posts (6 hours). Used for
+     * when no own time was defined with {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setCircuitBreaker(int, long, TimeUnit) BotBlock.Builder.setCircuitBreaker(int, long, TimeUnit)}
+     */
+    public static final long DEFAULT_CIRCUIT_OPEN_TIME = TimeUnit.HOURS.toMillis(6);
+    
     private final Map<String, String> tokens;
     private final int updateDelay;
+    private final long updateJitter;
+    private final boolean skipUnchanged;
+    private final int forcePostInterval;
+    private final int circuitBreakerThreshold;
+    private final long circuitOpenTime;
     
-    private BotBlockAPI(@Nonnull Map<String, String> tokens, int updateDelay){
+    private BotBlockAPI(@Nonnull Map<String, String> tokens, int updateDelay, long updateJitter, boolean skipUnchanged,
+                        int forcePostInterval, int circuitBreakerThreshold, long circuitOpenTime){
         CheckUtil.notEmpty(tokens, "Tokens");
         CheckUtil.condition(updateDelay < 2, "UpdateDelay may not be less than 2");
         
         this.tokens = tokens;
         this.updateDelay = updateDelay;
+        this.updateJitter = updateJitter;
+        this.skipUnchanged = skipUnchanged;
+        this.forcePostInterval = forcePostInterval;
+        this.circuitBreakerThreshold = circuitBreakerThreshold;
+        this.circuitOpenTime = circuitOpenTime;
     }
     
     public Map<String, String> getTokens(){
@@ -52,12 +76,37 @@ public class BotBlockAPI{
         return updateDelay;
     }
     
+    public long getUpdateJitter(){
+        return updateJitter;
+    }
+    
+    public boolean isSkipUnchanged(){
+        return skipUnchanged;
+    }
+    
+    public int getForcePostInterval(){
+        return forcePostInterval;
+    }
+    
+    public int getCircuitBreakerThreshold(){
+        return circuitBreakerThreshold;
+    }
+    
+    public long getCircuitOpenTime(){
+        return circuitOpenTime;
+    }
+    
     /**
      * Builder class to create an instance of {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI}
      */
     public static class Builder{
         private Map<String, String> tokens = new HashMap<>();
         private int updateDelay = DEFAULT_DELAY;
+        private long updateJitter = 0;
+        private boolean skipUnchanged = false;
+        private int forcePostInterval = DEFAULT_FORCE_POST_INTERVAL;
+        private int circuitBreakerThreshold = 0;
+        private long circuitOpenTime = DEFAULT_CIRCUIT_OPEN_TIME;
         
         /**
          * Empty constructor to get the class.
@@ -117,7 +166,7 @@ public class BotBlockAPI{
         public Builder addAuthToken(@Nonnull String site, @Nonnull String token){
             CheckUtil.notEmpty(site, "Site");
             CheckUtil.notEmpty(token, "Token");
-    
+            
             // Discordlist.space requires the token to start with "Bot "
             if(site.equals("discordlist.space") && !token.startsWith("Bot "))
                 token = "Bot " + token;
@@ -168,6 +217,134 @@ public class BotBlockAPI{
             return this;
         }
         
+        /**
+         * Sets the maximum random delay added to every auto-post.
+         * <br>When many bots are started together and use the same update delay, would they otherwise all post at the
+         * same time and run into the rate limits of the BotBlock API. Default is 0, meaning no delay is added.
+         *
+         * <p>The jitter doesn't add up over time: Every post is delayed from its regular time by a random value between
+         * 0 and the provided jitter.
+         *
+         * @param  jitter
+         *         The maximum random delay. This can't be less than 0.
+         * @param  timeUnit
+         *         The {@link java.util.concurrent.TimeUnit TimeUnit} to use.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided jitter is less than 0.</li>
+         * </ul>
+         *
+         * @return The Builder after the jitter was set. Useful for chaining.
+         *
+         * @since 6.8.0
+         */
+        public Builder setUpdateJitter(long jitter, @Nonnull TimeUnit timeUnit){
+            CheckUtil.condition(jitter < 0, "Jitter may not be less than 0.");
+            
+            this.updateJitter = timeUnit.toMillis(jitter);
+            return this;
+        }
+        
+        /**
+         * Sets whether the auto-posting should skip posts, whose payload didn't change since the last successful post.
+         * <br>A post is successful when all bot lists accepted it. Default is {@code false}.
+         *
+         * <p>Unchanged payloads are still posted every n intervals, where n is the interval set through
+         * {@link #setForcePostInterval(int) setForcePostInterval(int)}, so that the bot lists keep receiving updates.
+         *
+         * @param  skipUnchanged
+         *         Whether unchanged payloads should be skipped.
+         *
+         * @return The Builder after the value was set. Useful for chaining.
+         *
+         * @since 6.8.0
+         */
+        public Builder setSkipUnchanged(boolean skipUnchanged){
+            this.skipUnchanged = skipUnchanged;
+            return this;
+        }
+        
+        /**
+         * Sets after how many intervals an unchanged payload is posted again, when
+         * {@link #setSkipUnchanged(boolean) skipping unchanged posts} is enabled. Default is 6.
+         * <br>With the default update delay of 30 minutes is an unchanged payload therefore posted every 3 hours.
+         *
+         * @param  forcePostInterval
+         *         The amount of intervals after which an unchanged payload is posted again. This can't be less than 1.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided interval is less than 1.</li>
+         * </ul>
+         *
+         * @return The Builder after the interval was set. Useful for chaining.
+         *
+         * @since 6.8.0
+         */
+        public Builder setForcePostInterval(int forcePostInterval){
+            CheckUtil.condition(forcePostInterval < 1, "ForcePostInterval may not be less than 1.");
+            
+            this.forcePostInterval = forcePostInterval;
+            return this;
+        }
+        
+        /**
+         * Leaves the token of a site out of posts, once the site failed the provided amount of posts in a row.
+         * <br>The token is left out for {@link #DEFAULT_CIRCUIT_OPEN_TIME 6 hours}, see
+         * {@link #setCircuitBreaker(int, long, TimeUnit) setCircuitBreaker(int, long, TimeUnit)} for details.
+         *
+         * @param  failureThreshold
+         *         The amount of failed posts in a row after which a site is left out. This can't be less than 1.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided threshold is less than 1.</li>
+         * </ul>
+         *
+         * @return The Builder after the circuit breaker was set. Useful for chaining.
+         *
+         * @since 6.8.0
+         */
+        public Builder setCircuitBreaker(int failureThreshold){
+            return setCircuitBreaker(failureThreshold, DEFAULT_CIRCUIT_OPEN_TIME, TimeUnit.MILLISECONDS);
+        }
+        
+        /**
+         * Leaves the token of a site out of posts, once the site failed the provided amount of posts in a row.
+         * <br>Sites that are defunct or keep returning errors would otherwise receive every post and make each post take
+         * longer. Disabled by default.
+         *
+         * <p>After the provided time is the token included in the next post again. If the site accepts it, is it posted
+         * to as usual, otherwise is it left out for the same time again.
+         * <br>If every site would be left out are all tokens included.
+         *
+         * @param  failureThreshold
+         *         The amount of failed posts in a row after which a site is left out. This can't be less than 1.
+         * @param  openTime
+         *         The time for how long the token of a failing site is left out.
+         * @param  timeUnit
+         *         The {@link java.util.concurrent.TimeUnit TimeUnit} to use.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided threshold is less than 1,
+         *     or the provided time is 0 or lower.</li>
+         * </ul>
+         *
+         * @return The Builder after the circuit breaker was set. Useful for chaining.
+         *
+         * @since 6.8.0
+         */
+        public Builder setCircuitBreaker(int failureThreshold, long openTime, @Nonnull TimeUnit timeUnit){
+            CheckUtil.condition(failureThreshold < 1, "FailureThreshold may not be less than 1.");
+            CheckUtil.condition(openTime <= 0, "OpenTime may not be less or equal to 0.");
+            
+            this.circuitBreakerThreshold = failureThreshold;
+            this.circuitOpenTime = timeUnit.toMillis(openTime);
+            return this;
+        }
+        
         /**
          * Builds the instance of {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI}.
          *
@@ -181,7 +358,8 @@ public class BotBlockAPI{
         public BotBlockAPI build(){
             CheckUtil.notEmpty(tokens, "Tokens");
             
-            return new BotBlockAPI(tokens, updateDelay);
+            return new BotBlockAPI(tokens, updateDelay, updateJitter, skipUnchanged, forcePostInterval, circuitBreakerThreshold,
+                    circuitOpenTime);
         }
     }
 }
@@ -35,11 +35,11 @@ public class Info{
     /**
      * Minor version of the Wrapper.
      */
-    public static final int MINOR = 7;
+    public static final int MINOR = 8;
     /**
      * Patch version of the Wrapper.
      */
-    public static final int PATCH = 4;
+    public static final int PATCH = 0;
     
     /**
      * Full version in the format {@code major.minor.patch}.
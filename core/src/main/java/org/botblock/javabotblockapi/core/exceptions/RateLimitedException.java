@@ -26,8 +26,9 @@ import javax.annotation.Nullable;
  * <br>Use {@link #getDelay() getDelay()} to find out how long you have to wait until you can perform another request
  * towards {@link #getRoute() the targeted route}.
  * 
- * <p>Note that this Wrapper will do <b>no attempt</b> at delaying any further requests! It is your own responsibility to
- * handle rate limits properly in those cases and delay any future requests accordingly.
+ * <p>Further requests towards a rate limited route are not sent to the BotBlock API until the delay passed. By default
+ * do they fail right away with this exception, containing the remaining delay. The actions of the request module allow
+ * to wait or queue them instead, using {@code setRateLimitMode(RateLimitMode)}.
  * <br>Any automated POSTing method of this Wrapper should not get rate limited due to keeping a minimal delay between each
  * request that is more than enough.
  */
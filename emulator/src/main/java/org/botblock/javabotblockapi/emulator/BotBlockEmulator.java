@@ -0,0 +1,686 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.emulator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.botblock.javabotblockapi.core.CheckUtil;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local emulator of the BotBlock API, serving {@code /api/bots/{id}}, {@code /api/lists}, {@code /api/lists/{site}}
+ * and {@code /api/count} on the loopback address.
+ * <br>It is meant to test and measure the throughput and latency of an integration under controlled conditions, by
+ * adding {@link #setLatency(Endpoint, long, long, TimeUnit) latency}, {@link #setRateLimit(Endpoint, long, TimeUnit) rate limits},
+ * {@link #setFaultRate(Endpoint, Fault, double) random faults} and {@link #setFailingSite(String, int, String) failing sites}
+ * to the responses. All of these can be changed while the emulator is running.
+ *
+ * <p>The emulator is started on creation and should be {@link #close() closed} once it isn't needed anymore.
+ * <br>Example:
+ * <pre><code>
+ * try(BotBlockEmulator emulator = new BotBlockEmulator()){
+ *     emulator.setLatency(Endpoint.COUNT, 50, 500, TimeUnit.MILLISECONDS);
+ *     emulator.setFaultRate(Endpoint.COUNT, Fault.RATE_LIMIT, 0.05);
+ *
+ *     PostAction postAction = new PostAction("123456789012345678");
+ *     postAction.setBaseUrl(emulator.getBaseUrl());
+ *     // Perform requests...
+ * }
+ * </code></pre>
+ *
+ * <p>The HttpServer of the JDK doesn't disable Nagle's algorithm by default, so small responses may run into the
+ * delayed ACKs of the loopback and take ~40ms each. When measuring latencies, start the JVM with
+ * {@code -Dsun.net.httpserver.nodelay=true}. The emulator doesn't set this property itself, as it affects every
+ * HttpServer of the JVM.
+ *
+ * @since 6.8.0
+ */
+public class BotBlockEmulator implements AutoCloseable{
+    /**
+     * Delay in milliseconds between two posts of the same bot before the BotBlock API rate limits them (2 seconds).
+     * <br>Use it with {@link #setRateLimit(Endpoint, long, TimeUnit) setRateLimit(Endpoint.COUNT, DEFAULT_COUNT_RATE_LIMIT, TimeUnit.MILLISECONDS)}
+     * to emulate the rate limit of BotBlock.
+     */
+    public static final long DEFAULT_COUNT_RATE_LIMIT = TimeUnit.SECONDS.toMillis(2);
+    
+    /**
+     * Delay in milliseconds between two GET requests before the BotBlock API rate limits them (1 second).
+     */
+    public static final long DEFAULT_GET_RATE_LIMIT = TimeUnit.SECONDS.toMillis(1);
+    
+    private static final Set<String> POST_FIELDS = Set.of("bot_id", "server_count", "shard_id", "shard_count", "shards");
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    
+    private final Map<Endpoint, Behaviour> behaviours = new EnumMap<>(Endpoint.class);
+    private final Map<String, Long> rateLimits = new ConcurrentHashMap<>();
+    private final Map<String, JSONArray> failingSites = new ConcurrentHashMap<>();
+    private final Map<String, JSONObject> bots = new ConcurrentHashMap<>();
+    private final Map<String, JSONObject> lists = new ConcurrentHashMap<>();
+    private final Map<String, Long> serverCounts = new ConcurrentHashMap<>();
+    private volatile JSONObject lastPost = null;
+    
+    /**
+     * Starts a new emulator on a free port of the loopback address.
+     *
+     * <p>Following Exceptions can be thrown:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the server couldn't be started.</li>
+     * </ul>
+     *
+     * @throws IOException When the server couldn't be started.
+     */
+    public BotBlockEmulator() throws IOException{
+        this(0);
+    }
+    
+    /**
+     * Starts a new emulator on the provided port of the loopback address.
+     *
+     * <p>Following Exceptions can be thrown:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the server couldn't be started, e.g. because the port is in use.</li>
+     * </ul>
+     *
+     * @param  port
+     *         The port to use, or {@code 0} to use any free port.
+     *
+     * @throws IOException When the server couldn't be started.
+     */
+    public BotBlockEmulator(int port) throws IOException{
+        for(Endpoint endpoint : Endpoint.values())
+            behaviours.put(endpoint, new Behaviour());
+        
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "JavaBotBlockAPI - BotBlockEmulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/api/", this::handle);
+        server.start();
+    }
+    
+    /**
+     * The base URL of this emulator, to use with the {@code setBaseUrl(String)} method of the actions.
+     *
+     * @return String containing the base URL, e.g. {@code http://127.0.0.1:12345/api/}.
+     */
+    public String getBaseUrl(){
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/api/";
+    }
+    
+    /**
+     * Sets the latency added to every response of all endpoints.
+     * <br>The latency of each response is picked randomly between min and max.
+     *
+     * @param  min
+     *         The minimal latency. Can't be negative.
+     * @param  max
+     *         The maximal latency. Can't be lower than min.
+     * @param  timeUnit
+     *         The {@link java.util.concurrent.TimeUnit TimeUnit} of min and max.
+     */
+    public void setLatency(long min, long max, @Nonnull TimeUnit timeUnit){
+        for(Endpoint endpoint : Endpoint.values())
+            setLatency(endpoint, min, max, timeUnit);
+    }
+    
+    /**
+     * Sets the latency added to every response of the provided endpoint.
+     * <br>The latency of each response is picked randomly between min and max.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When min is negative or max is lower than min.</li>
+     * </ul>
+     *
+     * @param  endpoint
+     *         The {@link org.botblock.javabotblockapi.emulator.BotBlockEmulator.Endpoint Endpoint} to set the latency for.
+     * @param  min
+     *         The minimal latency. Can't be negative.
+     * @param  max
+     *         The maximal latency. Can't be lower than min.
+     * @param  timeUnit
+     *         The {@link java.util.concurrent.TimeUnit TimeUnit} of min and max.
+     */
+    public void setLatency(@Nonnull Endpoint endpoint, long min, long max, @Nonnull TimeUnit timeUnit){
+        CheckUtil.condition(min < 0, "The latency may not be negative!");
+        CheckUtil.condition(max < min, "The maximal latency may not be lower than the minimal latency!");
+        
+        Behaviour behaviour = behaviours.get(endpoint);
+        behaviour.latencyMin = timeUnit.toNanos(min);
+        behaviour.latencyMax = timeUnit.toNanos(max);
+    }
+    
+    /**
+     * Sets the time which has to pass between two requests towards the provided endpoint before they get rate limited.
+     * <br>Like the BotBlock API are posts rate limited per bot, while GET requests are rate limited per route.
+     * Rate limited requests receive a 429 response with the remaining time as {@code retry_after}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided time is negative.</li>
+     * </ul>
+     *
+     * @param  endpoint
+     *         The {@link org.botblock.javabotblockapi.emulator.BotBlockEmulator.Endpoint Endpoint} to set the rate limit for.
+     * @param  time
+     *         The time between two requests, or {@code 0} to disable the rate limit.
+     * @param  timeUnit
+     *         The {@link java.util.concurrent.TimeUnit TimeUnit} of the time.
+     */
+    public void setRateLimit(@Nonnull Endpoint endpoint, long time, @Nonnull TimeUnit timeUnit){
+        CheckUtil.condition(time < 0, "The rate limit may not be negative!");
+        
+        behaviours.get(endpoint).rateLimit = timeUnit.toMillis(time);
+    }
+    
+    /**
+     * Sets the rate at which the provided {@link org.botblock.javabotblockapi.emulator.BotBlockEmulator.Fault Fault}
+     * happens on requests towards the provided endpoint.
+     * <br>When multiple faults are set does every request only get one of them.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the rate isn't between 0 and 1.</li>
+     * </ul>
+     *
+     * @param  endpoint
+     *         The {@link org.botblock.javabotblockapi.emulator.BotBlockEmulator.Endpoint Endpoint} to set the rate for.
+     * @param  fault
+     *         The {@link org.botblock.javabotblockapi.emulator.BotBlockEmulator.Fault Fault} to set the rate for.
+     * @param  rate
+     *         The rate between {@code 0} (never) and {@code 1} (always).
+     */
+    public void setFaultRate(@Nonnull Endpoint endpoint, @Nonnull Fault fault, double rate){
+        CheckUtil.condition(rate < 0 || rate > 1, "The rate needs to be between 0 and 1!");
+        
+        behaviours.get(endpoint).faultRates.put(fault, rate);
+    }
+    
+    /**
+     * Lets every post towards the provided site fail, by adding it to the {@code failure} map of the responses.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided site is empty.</li>
+     * </ul>
+     *
+     * @param  site
+     *         The site to fail the posts of.
+     * @param  code
+     *         The HTTP status code the site responds with, e.g. {@code 401}.
+     * @param  message
+     *         The message the site responds with.
+     */
+    public void setFailingSite(@Nonnull String site, int code, @Nonnull String message){
+        CheckUtil.notEmpty(site, "Site");
+        
+        failingSites.put(site, new JSONArray().put(code).put(message));
+    }
+    
+    /**
+     * Lets posts towards the provided site succeed again.
+     *
+     * @param  site
+     *         The site to no longer fail the posts of.
+     */
+    public void removeFailingSite(@Nonnull String site){
+        failingSites.remove(site);
+    }
+    
+    /**
+     * Adds the provided bot, which is returned by {@code /api/bots/{id}} instead of a generated one.
+     * <br>A bot is generated for any other id, containing the last posted server count.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided JSON has no id.</li>
+     * </ul>
+     *
+     * @param  bot
+     *         The {@link org.json.JSONObject JSONObject} of the bot, in the format of the BotBlock API.
+     */
+    public void addBot(@Nonnull JSONObject bot){
+        String id = bot.optString("id");
+        CheckUtil.notEmpty(id, "ID");
+        
+        bots.put(id, bot);
+    }
+    
+    /**
+     * Adds a generated bot list with the provided id.
+     *
+     * @param  site
+     *         The id of the bot list, e.g. {@code discord.bots.gg}.
+     */
+    public void addList(@Nonnull String site){
+        CheckUtil.notEmpty(site, "Site");
+        
+        addList(generateList(site));
+    }
+    
+    /**
+     * Adds the provided bot list, which is returned by {@code /api/lists} and {@code /api/lists/{site}}.
+     * <br>Requests towards {@code /api/lists/{site}} of a bot list that wasn't added receive a 404 response.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided JSON has no id.</li>
+     * </ul>
+     *
+     * @param  list
+     *         The {@link org.json.JSONObject JSONObject} of the bot list, in the format of the BotBlock API.
+     */
+    public void addList(@Nonnull JSONObject list){
+        String id = list.optString("id");
+        CheckUtil.notEmpty(id, "ID");
+        
+        lists.put(id, list);
+    }
+    
+    /**
+     * The amount of requests this emulator received towards the provided endpoint, including the failed ones.
+     *
+     * @param  endpoint
+     *         The {@link org.botblock.javabotblockapi.emulator.BotBlockEmulator.Endpoint Endpoint} to get the amount for.
+     *
+     * @return The amount of received requests.
+     */
+    public long getRequestCount(@Nonnull Endpoint endpoint){
+        return behaviours.get(endpoint).requests.get();
+    }
+    
+    /**
+     * The body of the last post this emulator received.
+     *
+     * @return Possibly-null {@link org.json.JSONObject JSONObject} of the last post.
+     */
+    @Nullable
+    public JSONObject getLastPost(){
+        return lastPost;
+    }
+    
+    /**
+     * Stops this emulator. Requests which are still handled are aborted.
+     */
+    @Override
+    public void close(){
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException{
+        try{
+            String path = exchange.getRequestURI().getPath().substring("/api/".length());
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            
+            Endpoint endpoint = Endpoint.of(exchange.getRequestMethod(), path);
+            if(endpoint == null){
+                respond(exchange, 404, error(404, "Not Found"));
+                return;
+            }
+            
+            Behaviour behaviour = behaviours.get(endpoint);
+            behaviour.requests.incrementAndGet();
+            behaviour.delay();
+            
+            JSONObject post = null;
+            String rateLimitKey = endpoint.route;
+            if(endpoint == Endpoint.COUNT){
+                try{
+                    post = new JSONObject(new String(requestBody, StandardCharsets.UTF_8));
+                }catch(JSONException ex){
+                    respond(exchange, 400, error(400, "Invalid JSON body"));
+                    return;
+                }
+                
+                if(post.optString("bot_id").isEmpty() || !post.has("server_count")){
+                    respond(exchange, 400, error(400, "bot_id and server_count are required"));
+                    return;
+                }
+                
+                lastPost = post;
+                rateLimitKey = endpoint.route + " " + post.getString("bot_id");
+            }
+            
+            JSONObject rateLimit = checkRateLimit(rateLimitKey, endpoint, post, behaviour);
+            if(rateLimit != null){
+                respond(exchange, 429, rateLimit.toString());
+                return;
+            }
+            
+            Fault fault = behaviour.pickFault();
+            if(fault == Fault.RATE_LIMIT){
+                respond(exchange, 429, rateLimited(endpoint, post, behaviour.rateLimit > 0 ? behaviour.rateLimit : DEFAULT_GET_RATE_LIMIT).toString());
+                return;
+            }
+            if(fault == Fault.EMPTY_BODY){
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            if(fault == Fault.SERVER_ERROR){
+                respond(exchange, 502, "<html><head><title>502 Bad Gateway</title></head><body>502 Bad Gateway</body></html>");
+                return;
+            }
+            
+            switch(endpoint){
+                case BOTS:
+                    respond(exchange, 200, getBot(path.substring("bots/".length())).toString());
+                    break;
+                
+                case LISTS:
+                    respond(exchange, 200, getLists(exchange.getRequestURI().getQuery()).toString());
+                    break;
+                
+                case LIST:
+                    JSONObject list = lists.get(path.substring("lists/".length()));
+                    if(list == null)
+                        respond(exchange, 404, error(404, "List not found"));
+                    else
+                        respond(exchange, 200, list.toString());
+                    break;
+                
+                case COUNT:
+                    respond(exchange, 200, count(post, behaviour.faultRates.getOrDefault(Fault.SITE_FAILURE, 0D)).toString());
+                    break;
+            }
+        }finally{
+            exchange.close();
+        }
+    }
+    
+    @Nullable
+    private JSONObject checkRateLimit(String key, Endpoint endpoint, @Nullable JSONObject post, Behaviour behaviour){
+        long limit = behaviour.rateLimit;
+        if(limit <= 0)
+            return null;
+        
+        long now = System.currentTimeMillis();
+        long[] remaining = {0};
+        rateLimits.compute(key, (k, resetAt) -> {
+            if(resetAt != null && resetAt > now){
+                remaining[0] = resetAt - now;
+                return resetAt;
+            }
+            
+            return now + limit;
+        });
+        
+        return remaining[0] > 0 ? rateLimited(endpoint, post, remaining[0]) : null;
+    }
+    
+    // Mirrors the body of the BotBlock API, with retry_after in milliseconds as expected by RateLimitedException.
+    private JSONObject rateLimited(Endpoint endpoint, @Nullable JSONObject post, long retryAfter){
+        return new JSONObject()
+                .put("error", true)
+                .put("status", 429)
+                .put("retry_after", retryAfter)
+                .put("ratelimit_reset", (System.currentTimeMillis() + retryAfter) / 1000)
+                .put("ratelimit_ip", "127.0.0.1")
+                .put("ratelimit_route", endpoint.route)
+                .put("ratelimit_bot_id", post == null ? JSONObject.NULL : post.getString("bot_id"));
+    }
+    
+    private JSONObject count(JSONObject post, double failureRate){
+        String botId = post.getString("bot_id");
+        serverCounts.put(botId, post.optLong("server_count"));
+        
+        JSONObject success = new JSONObject();
+        JSONObject failure = new JSONObject();
+        for(String site : post.keySet()){
+            if(POST_FIELDS.contains(site))
+                continue;
+            
+            JSONArray failing = failingSites.get(site);
+            if(failing == null && failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate)
+                failing = new JSONArray().put(500).put("Internal Server Error");
+            
+            if(failing != null)
+                failure.put(site, failing);
+            else
+                success.put(site, new JSONArray().put(200).put("{\"success\":true}"));
+        }
+        
+        return new JSONObject().put("success", success).put("failure", failure);
+    }
+    
+    private JSONObject getBot(String id){
+        JSONObject bot = bots.get(id);
+        if(bot != null)
+            return bot;
+        
+        long serverCount = serverCounts.getOrDefault(id, 0L);
+        JSONObject listData = new JSONObject();
+        for(String site : lists.keySet())
+            listData.put(site, new JSONArray().put(new JSONObject().put("id", id).put("server_count", serverCount)).put(200));
+        
+        return new JSONObject()
+                .put("id", id)
+                .put("username", "Bot " + id)
+                .put("discriminator", "0000")
+                .put("owners", new JSONArray())
+                .put("server_count", serverCount)
+                .put("invite", "https://discord.com/oauth2/authorize?client_id=" + id + "&scope=bot")
+                .put("prefix", JSONObject.NULL)
+                .put("website", JSONObject.NULL)
+                .put("github", JSONObject.NULL)
+                .put("support", JSONObject.NULL)
+                .put("library", JSONObject.NULL)
+                .put("list_data", listData);
+    }
+    
+    // The filtered lists only contain the id and the API fields of each bot list.
+    private JSONObject getLists(@Nullable String query){
+        boolean filtered = query != null && query.contains("filter=true");
+        
+        JSONObject result = new JSONObject();
+        for(Map.Entry<String, JSONObject> entry : lists.entrySet()){
+            if(!filtered){
+                result.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            
+            JSONObject filteredList = new JSONObject().put("id", entry.getKey());
+            for(String key : entry.getValue().keySet()){
+                if(key.startsWith("api_"))
+                    filteredList.put(key, entry.getValue().get(key));
+            }
+            
+            result.put(entry.getKey(), filteredList);
+        }
+        
+        return result;
+    }
+    
+    private static JSONObject generateList(String site){
+        String url = "https://" + site;
+        return new JSONObject()
+                .put("id", site)
+                .put("added", System.currentTimeMillis() / 1000)
+                .put("name", site)
+                .put("url", url)
+                .put("icon", url + "/icon.png")
+                .put("language", "English")
+                .put("display", 1)
+                .put("defunct", 0)
+                .put("discord_only", 1)
+                .put("description", "Emulated bot list " + site)
+                .put("api_docs", url + "/docs")
+                .put("api_post", url + "/api/bots/:id/stats")
+                .put("api_field", "server_count")
+                .put("api_shard_id", "shard_id")
+                .put("api_shard_count", "shard_count")
+                .put("api_shards", "shards")
+                .put("api_get", url + "/api/bots/:id")
+                .put("api_all", JSONObject.NULL)
+                .put("view_bot", url + "/bots/:id")
+                .put("bot_widget", url + "/api/widget/:id.svg")
+                .put("content", JSONObject.NULL)
+                .put("owners", "Emulator")
+                .put("discord", JSONObject.NULL)
+                .put("features", new JSONArray());
+    }
+    
+    private static String error(int status, String message){
+        return new JSONObject().put("error", true).put("status", status).put("message", message).toString();
+    }
+    
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException{
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", body.startsWith("<") ? "text/html" : "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        
+        try(OutputStream output = exchange.getResponseBody()){
+            output.write(bytes);
+        }
+    }
+    
+    /**
+     * The endpoints of the BotBlock API, which the emulator serves.
+     */
+    public enum Endpoint{
+        /**
+         * {@code GET /api/bots/{id}}
+         */
+        BOTS("/api/bots/:id"),
+        
+        /**
+         * {@code GET /api/lists}
+         */
+        LISTS("/api/lists"),
+        
+        /**
+         * {@code GET /api/lists/{site}}
+         */
+        LIST("/api/lists/:id"),
+        
+        /**
+         * {@code POST /api/count}
+         */
+        COUNT("/api/count");
+        
+        private final String route;
+        
+        Endpoint(String route){
+            this.route = route;
+        }
+        
+        @Nullable
+        private static Endpoint of(String method, String path){
+            boolean get = method.equals("GET");
+            if(get && path.startsWith("bots/") && path.length() > "bots/".length())
+                return BOTS;
+            if(get && path.equals("lists"))
+                return LISTS;
+            if(get && path.startsWith("lists/") && path.length() > "lists/".length())
+                return LIST;
+            if(method.equals("POST") && path.equals("count"))
+                return COUNT;
+            
+            return null;
+        }
+    }
+    
+    /**
+     * Faults which can be added to the responses by using
+     * {@link #setFaultRate(Endpoint, Fault, double) setFaultRate(Endpoint, Fault, double)}.
+     */
+    public enum Fault{
+        /**
+         * A 429 response, regardless of the {@link #setRateLimit(Endpoint, long, TimeUnit) rate limit}.
+         */
+        RATE_LIMIT,
+        
+        /**
+         * A 200 response without any body.
+         */
+        EMPTY_BODY,
+        
+        /**
+         * A 502 response with a HTML body, like the one of a failing proxy in front of the API.
+         */
+        SERVER_ERROR,
+        
+        /**
+         * A failed post towards a single site, which is added to the {@code failure} map with a 500 status code.
+         * <br>The rate is applied to every site of a post. Only used by {@link Endpoint#COUNT Endpoint.COUNT}.
+         */
+        SITE_FAILURE
+    }
+    
+    private static final class Behaviour{
+        private volatile long latencyMin = 0;
+        private volatile long latencyMax = 0;
+        private volatile long rateLimit = 0;
+        private final Map<Fault, Double> faultRates = new ConcurrentHashMap<>();
+        private final AtomicLong requests = new AtomicLong();
+        
+        private void delay(){
+            long min = latencyMin;
+            long max = latencyMax;
+            long nanos = max > min ? ThreadLocalRandom.current().nextLong(min, max + 1) : min;
+            if(nanos <= 0)
+                return;
+            
+            try{
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            }catch(InterruptedException ex){
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        @Nullable
+        private Fault pickFault(){
+            double roll = ThreadLocalRandom.current().nextDouble();
+            for(Map.Entry<Fault, Double> entry : faultRates.entrySet()){
+                if(entry.getKey() == Fault.SITE_FAILURE)
+                    continue;
+                
+                roll -= entry.getValue();
+                if(roll < 0)
+                    return entry.getKey();
+            }
+            
+            return null;
+        }
+    }
+}
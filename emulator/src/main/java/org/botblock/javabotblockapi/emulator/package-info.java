@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * This is the Emulator module, which provides a local instance of the BotBlock API to test and measure an integration
+ * of JavaBotBlockAPI without sending any requests to BotBlock or the bot lists.
+ * <br>The {@link org.botblock.javabotblockapi.emulator.BotBlockEmulator BotBlockEmulator} can add latency, rate limits
+ * and other faults to its responses. Point the actions of the other modules to it by using their {@code setBaseUrl(String)}
+ * method with {@link org.botblock.javabotblockapi.emulator.BotBlockEmulator#getBaseUrl() BotBlockEmulator.getBaseUrl()}.
+ * <br>It depends on the core module.
+ *
+ * <h1>Installation</h1>
+ * Please replace {@code API_VERSION} with the latest release on Bintray.
+ *
+ * <h2>Gradle (recommended)</h2>
+ *
+ * <pre><code>
+ * repositories{
+ *     maven{ url = 'https://repo.codemc.io/repository/maven-public' }
+ * }
+ *
+ * dependencies{
+ *     testImplementation group: 'org.botblock', name: 'javabotblockapi-emulator', version: 'API_VERSION'
+ * }
+ * </code></pre>
+ *
+ * <h2>Maven</h2>
+ *
+ * <pre><code>{@literal
+ * <repositories>
+ *     <repository>
+ *         <id>codemc</id>
+ *         <name>CodeMC-Nexus</name>
+ *         <url>https://repo.codemc.io/repository/maven-public</url>
+ *     </repository>
+ * </repositories>
+ *
+ * <dependencies>
+ *     <dependency>
+ *         <groupId>org.botblock</groupId>
+ *         <artifactId>javabotblockapi-emulator</artifactId>
+ *         <version>API_VERSION</version>
+ *         <scope>test</scope>
+ *     </dependency>
+ * </dependencies>
+ * }</code></pre>
+ */
+package org.botblock.javabotblockapi.emulator;
@@ -22,22 +22,23 @@ import org.botblock.javabotblockapi.core.BotBlockAPI;
 import org.botblock.javabotblockapi.core.CheckUtil;
 import org.botblock.javabotblockapi.core.Info;
 import org.botblock.javabotblockapi.core.exceptions.RateLimitedException;
+import org.botblock.javabotblockapi.requests.RateLimitMode;
+import org.botblock.javabotblockapi.requests.TimeoutSettings;
+import org.botblock.javabotblockapi.requests.handler.PostPayload;
+import org.botblock.javabotblockapi.requests.handler.PostScheduler;
+import org.botblock.javabotblockapi.requests.handler.PostTemplate;
 import org.botblock.javabotblockapi.requests.handler.RequestHandler;
+import org.botblock.javabotblockapi.requests.objects.PostResult;
+import org.botblock.javabotblockapi.requests.handler.ShardCounts;
 import org.javacord.api.DiscordApi;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Class used to perform POST requests towards the <a href="https://botblock.org/api/docs#count" target="_blank">/api/count</a>
@@ -45,6 +46,8 @@ import java.util.concurrent.TimeUnit;
  * 
  * <p>The class offers options to post either {@link #postGuilds(BotBlockAPI, DiscordApi...) manually} or
  * {@link #enableAutoPost(BotBlockAPI, DiscordApi...) automatically}.
+ * <br>Bots with many Servers may use a {@link org.botblock.javabotblockapi.javacord.ServerCounter ServerCounter} instead,
+ * which keeps track of the Server counts through listeners.
  *
  * <p>If you want to post without using Javacord, use the {@link org.botblock.javabotblockapi.requests.PostAction normal PostAction}.
  */
@@ -52,7 +55,7 @@ public class PostAction{
     private final Logger LOG = LoggerFactory.getLogger("JavaBotBlockAPI - PostAction (Javacord)");
     
     private final RequestHandler requestHandler;
-    private final ScheduledExecutorService scheduler;
+    private final PostScheduler scheduler;
     
     /**
      * Creates a new instance of this class.
@@ -73,16 +76,91 @@ public class PostAction{
         this.scheduler = requestHandler.getScheduler();
     }
     
+    /**
+     * Sets how POST requests are handled while the BotBlock API rate limits them. Default is
+     * {@link org.botblock.javabotblockapi.requests.RateLimitMode#FAIL_FAST RateLimitMode.FAIL_FAST}.
+     * <br>Once a request got rate limited are further requests towards the same route not sent to the API until the
+     * delay provided by it passed. Depending on the mode do they either fail right away, wait or get queued.
+     *
+     * @param  rateLimitMode
+     *         The {@link org.botblock.javabotblockapi.requests.RateLimitMode RateLimitMode} to use.
+     *
+     * @since  6.8.0
+     */
+    public void setRateLimitMode(@Nonnull RateLimitMode rateLimitMode){
+        requestHandler.setRateLimitMode(rateLimitMode);
+    }
+    
+    /**
+     * Sets the base URL the requests are sent to. Default is {@code https://botblock.org/api/}.
+     * <br>This is meant for testing against a local instance of the BotBlock API, like the one of the test-support
+     * module, which receives the requests instead of BotBlock itself.
+     * <br>Payloads skipped because they didn't change are posted again to the new base URL.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided base URL is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided base URL doesn't end with a {@code /}.</li>
+     * </ul>
+     *
+     * @param  baseUrl
+     *         The base URL to use, e.g. {@code http://localhost:8080/api/}.
+     *
+     * @since  6.8.0
+     */
+    public void setBaseUrl(@Nonnull String baseUrl){
+        requestHandler.setBaseUrl(baseUrl);
+    }
+    
+    /**
+     * Sets the {@link org.botblock.javabotblockapi.requests.TimeoutSettings TimeoutSettings} used for POST requests.
+     * <br>By default are timeouts derived from the latency of previous posts, see
+     * {@link org.botblock.javabotblockapi.requests.TimeoutSettings#getDefault() TimeoutSettings.getDefault()}.
+     *
+     * @param  timeoutSettings
+     *         The {@link org.botblock.javabotblockapi.requests.TimeoutSettings TimeoutSettings} to use.
+     *
+     * @since  6.8.0
+     */
+    public void setTimeoutSettings(@Nonnull TimeoutSettings timeoutSettings){
+        requestHandler.setTimeoutSettings(timeoutSettings);
+    }
+    
+    /**
+     * Returns the result of the last post performed by an auto-post task of this PostAction.
+     * <br>Skipped posts don't change the last result, while rate limited posts are included.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult} of the last auto-post.
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public PostResult getLastResult(){
+        return requestHandler.getLastResult();
+    }
+    
+    /**
+     * Sets a listener that receives the result of every post performed by an auto-post task of this PostAction,
+     * including rate limited posts.
+     * <br>The listener is called on the thread of the auto-post task. Exceptions thrown by it are caught and logged.
+     *
+     * @param  resultListener
+     *         The listener to call with each {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult},
+     *         or null to remove the current one.
+     *
+     * @since  6.8.0
+     */
+    public void setResultListener(@Nullable Consumer<PostResult> resultListener){
+        requestHandler.setResultListener(resultListener);
+    }
+    
     /**
      * Disables the automatic posting of Stats.
-     * <br>This essentially just performs a {@link java.util.concurrent.ScheduledExecutorService#shutdown() ScheduledExecutorService.shutdown()}
-     * by calling the {@link #disableAutoPost(BotBlockAPI) disableAutoPost(null)} method.
+     * <br>This cancels all auto-post tasks of this PostAction by calling the {@link #disableAutoPost(BotBlockAPI) disableAutoPost(null)} method.
      * 
      * <p>Note that using this method will NOT make the scheduler wait for previously scheduled tasks to complete.
      * <br>If you want to wait for the tasks to complete use {@link #disableAutoPost(BotBlockAPI) disableAutoPost(BotBlockAPI)} or
      * {@link #disableAutoPost(long, TimeUnit) disableAutoPost(long, TimeUnit)} instead.
-     * 
-     * @see java.util.concurrent.ScheduledExecutorService#shutdown()
      */
     public void disableAutoPost(){
         disableAutoPost(null);
@@ -93,8 +171,7 @@ public class PostAction{
      * <br>Unlike {@link #disableAutoPost() disableAutoPost()} can you make the scheduler wait for all scheduled tasks to 
      * finish, or to time out after n minutes by providing the {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlock instance}.
      *
-     * <p>Passing null as argument will just perform a {@link java.util.concurrent.ScheduledExecutorService#shutdown() ScheduledExecutorService.shutdown()}
-     * similar to what the disableAutoPost() method does.
+     * <p>Passing null as argument will just cancel the tasks similar to what the disableAutoPost() method does.
      *
      * <p>If you want to use a different delay than what you've set in the BotBlockAPI instance, can you use 
      * {@link #disableAutoPost(long, TimeUnit) disableAutoPost(long, TimeUnit)} instead.
@@ -102,10 +179,7 @@ public class PostAction{
      * <p>This method may throw a {@link java.lang.InterruptedException InterruptedException} in the terminal.
      *
      * @param botBlockAPI
-     *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} or null to just perform a shutdown.
-     * 
-     * @see java.util.concurrent.ScheduledExecutorService#shutdown()
-     * @see java.util.concurrent.ScheduledExecutorService#awaitTermination(long, TimeUnit)
+     *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} or null to just cancel the tasks.
      */
     public void disableAutoPost(@Nullable BotBlockAPI botBlockAPI){
         if(botBlockAPI != null){
@@ -113,7 +187,7 @@ public class PostAction{
             return;
         }
         
-        scheduler.shutdown();
+        scheduler.cancel();
     }
     
     /**
@@ -132,14 +206,12 @@ public class PostAction{
      *        The amount of time to wait for scheduled executions to finish before the Scheduler would time out.
      * @param timeUnit
      *        The {@link java.util.concurrent.TimeUnit TimeUnit} to use.
-     * 
-     * @see java.util.concurrent.ScheduledExecutorService#awaitTermination(long, TimeUnit)
      */
     public void disableAutoPost(long time, @Nonnull TimeUnit timeUnit){
         CheckUtil.condition(time <= 0, "time may not be less or equal to 0!");
         
         try{
-            scheduler.shutdown();
+            scheduler.cancel();
             if(!scheduler.awaitTermination(time, timeUnit))
                 LOG.warn("Scheduler couldn't properly wait for termination.");
         }catch(InterruptedException ex){
@@ -148,8 +220,7 @@ public class PostAction{
     }
     
     /**
-     * Starts a {@link java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate(Runnable, long, long, TimeUnit) scheduleAtFixedRate}
-     * task, which will post the statistics of the provided {@link org.javacord.api.DiscordApi DiscordApi instance} every n minutes.
+     * Starts a task at a fixed rate, which will post the statistics of the provided {@link org.javacord.api.DiscordApi DiscordApi instance} every n minutes.
      *
      * <p>If the post can't be performed - either by getting a {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException}
      * or by getting an {@link java.io.IOException IOException} - will the exception be caught and a Stacktrace printed.
@@ -157,6 +228,11 @@ public class PostAction{
      * <p>The scheduler will wait an initial delay of 1 minute and then performs a task every n minutes, where n is the
      * time set in {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateDelay(Integer) BotBlockAPI.Builder.setUpdateDelay(Integer)}
      * (default is 30 minutes).
+     * <br>Each post may be delayed by a random time up to the jitter set in
+     * {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateJitter(long, TimeUnit) BotBlockAPI.Builder.setUpdateJitter(long, TimeUnit)}.
+     *
+     * <p>When {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setSkipUnchanged(boolean) skipping unchanged posts}
+     * is enabled, will a post be skipped if its payload didn't change since the last successful post.
      *
      * <p>Following Exceptions can be thrown from the CheckUtil:
      * <ul>
@@ -171,13 +247,52 @@ public class PostAction{
     public void enableAutoPost(@Nonnull BotBlockAPI botBlockAPI, @Nonnull DiscordApi... discordApis){
         CheckUtil.condition(discordApis.length <= 0, "At least one DiscordApi instance needs to be provided!");
         
-        scheduler.scheduleAtFixedRate(() -> {
+        scheduler.schedule(() -> {
+            try{
+                requestHandler.performAutoPOST(getPayload(botBlockAPI, discordApis), botBlockAPI);
+            }catch(IOException | RateLimitedException ex){
+                LOG.warn("Got an exception while performing a auto-post task!", ex);
+            }
+        }, 1, botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES, botBlockAPI.getUpdateJitter());
+    }
+    
+    /**
+     * Starts a task at a fixed rate, which will post the Server counts of the provided {@link org.botblock.javabotblockapi.javacord.ServerCounter ServerCounter} every n minutes.
+     * <br>Unlike {@link #enableAutoPost(BotBlockAPI, DiscordApi...) enableAutoPost(BotBlockAPI, DiscordApi...)} won't this
+     * copy the Servers of every DiscordApi instance on each post.
+     *
+     * <p>If a {@link org.botblock.javabotblockapi.javacord.ServerCounter#setChangeThreshold(long) change threshold} is set on
+     * the ServerCounter, will an additional post be performed once the Server count changed by at least that amount
+     * since the last post.
+     *
+     * <p>If the post can't be performed - either by getting a {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException}
+     * or by getting an {@link java.io.IOException IOException} - will the exception be caught and a Stacktrace printed.
+     *
+     * <p>The scheduler will wait an initial delay of 1 minute and then performs a task every n minutes, where n is the
+     * time set in {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateDelay(Integer) BotBlockAPI.Builder.setUpdateDelay(Integer)}
+     * (default is 30 minutes).
+     * <br>Each post may be delayed by a random time up to the jitter set in
+     * {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateJitter(long, TimeUnit) BotBlockAPI.Builder.setUpdateJitter(long, TimeUnit)}.
+     *
+     * @param botBlockAPI
+     *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
+     * @param serverCounter
+     *        The {@link org.botblock.javabotblockapi.javacord.ServerCounter ServerCounter instance} to post stats from.
+     *
+     * @since 6.8.0
+     */
+    public void enableAutoPost(@Nonnull BotBlockAPI botBlockAPI, @Nonnull ServerCounter serverCounter){
+        Runnable task = () -> {
             try{
-                postGuilds(botBlockAPI, discordApis);
+                serverCounter.markPosted(serverCounter.getServerCount());
+                requestHandler.performAutoPOST(getPayload(botBlockAPI, serverCounter), botBlockAPI);
             }catch(IOException | RateLimitedException ex){
                 LOG.warn("Got an exception while performing a auto-post task!", ex);
             }
-        }, 1, botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES);
+        };
+        
+        serverCounter.setChangeListener(() -> scheduler.execute(task));
+        scheduler.schedule(task, 1, botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES, botBlockAPI.getUpdateJitter());
     }
     
     /**
@@ -192,6 +307,8 @@ public class PostAction{
      *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided DiscordApis are 0 or less.</li>
      * </ul>
      * 
+     * <p>Use {@link #postGuildsWithResult(BotBlockAPI, DiscordApi...) postGuildsWithResult(BotBlockAPI, DiscordApi...)} to receive the result of every site.
+     *
      * @param discordApis
      *        The {@link org.javacord.api.DiscordApi DiscordApi instances} to post stats from.
      * @param botBlockAPI
@@ -203,27 +320,123 @@ public class PostAction{
      *         When we get rate limited by the BotBlock API (returns error code 429).
      */
     public void postGuilds(@Nonnull BotBlockAPI botBlockAPI, @Nonnull DiscordApi... discordApis) throws IOException, RateLimitedException{
+        postGuildsWithResult(botBlockAPI, discordApis);
+    }
+    
+    /**
+     * Performs a POST request towards the BotBlock API using the information from the provided
+     * {@link org.javacord.api.DiscordApi DiscordApi} and {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlock} instances.
+     * 
+     * <p>If the provided DiscordApi instance is a sharded Bot (Amount of shards is larger than 1) will the request
+     * contain the {@code shards} array alongside a {@code shard_count} field.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided DiscordApis are 0 or less.</li>
+     * </ul>
+     * 
+     * <p>Unlike {@link #postGuilds(BotBlockAPI, DiscordApi...) postGuilds(BotBlockAPI, DiscordApi...)} does this method return the result of the post.
+     *
+     * @param discordApis
+     *        The {@link org.javacord.api.DiscordApi DiscordApi instances} to post stats from.
+     * @param botBlockAPI
+     *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
+     *        
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult} containing the
+     *         result of every site, or null if the BotBlock API responded with an empty body.
+     *
+     * @throws java.io.IOException
+     *         When the POST request wasn't successful.
+     * @throws org.botblock.javabotblockapi.core.exceptions.RateLimitedException
+     *         When we get rate limited by the BotBlock API (returns error code 429).
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public PostResult postGuildsWithResult(@Nonnull BotBlockAPI botBlockAPI, @Nonnull DiscordApi... discordApis) throws IOException, RateLimitedException{
         CheckUtil.condition(discordApis.length <= 0, "At least one DiscordApi instance needs to be provided!");
         
-        JSONObject json = new JSONObject()
-                .put("bot_id", discordApis[0].getYourself().getId());
+        return requestHandler.performPOST(getPayload(botBlockAPI, discordApis));
+    }
+    
+    /**
+     * Performs a POST request towards the BotBlock API using the Server counts of the provided
+     * {@link org.botblock.javabotblockapi.javacord.ServerCounter ServerCounter}.
+     *
+     * <p>If the ServerCounter keeps track of more than one shard will the request include {@code shard_count} and the
+     * {@code shards} array, similar to {@link #postGuilds(BotBlockAPI, DiscordApi...) postGuilds(BotBlockAPI, DiscordApi...)}.
+     *
+     * <p>Use {@link #postGuildsWithResult(BotBlockAPI, ServerCounter) postGuildsWithResult(BotBlockAPI, ServerCounter)} to receive the result of every site.
+     *
+     * @param  botBlockAPI
+     *         The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
+     * @param  serverCounter
+     *         The {@link org.botblock.javabotblockapi.javacord.ServerCounter ServerCounter instance} to post stats from.
+     *
+     * @throws java.io.IOException
+     *         When the POST request wasn't successful.
+     * @throws org.botblock.javabotblockapi.core.exceptions.RateLimitedException
+     *         When we get rate limited by the BotBlock API (returns error code 429).
+     *
+     * @since  6.8.0
+     */
+    public void postGuilds(@Nonnull BotBlockAPI botBlockAPI, @Nonnull ServerCounter serverCounter) throws IOException, RateLimitedException{
+        postGuildsWithResult(botBlockAPI, serverCounter);
+    }
+    
+    /**
+     * Performs a POST request towards the BotBlock API using the Server counts of the provided
+     * {@link org.botblock.javabotblockapi.javacord.ServerCounter ServerCounter}.
+     *
+     * <p>If the ServerCounter keeps track of more than one shard will the request include {@code shard_count} and the
+     * {@code shards} array, similar to {@link #postGuilds(BotBlockAPI, DiscordApi...) postGuilds(BotBlockAPI, DiscordApi...)}.
+     *
+     * <p>Unlike {@link #postGuilds(BotBlockAPI, ServerCounter) postGuilds(BotBlockAPI, ServerCounter)} does this method return the result of the post.
+     *
+     * @param  botBlockAPI
+     *         The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
+     * @param  serverCounter
+     *         The {@link org.botblock.javabotblockapi.javacord.ServerCounter ServerCounter instance} to post stats from.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult} containing the
+     *         result of every site, or null if the BotBlock API responded with an empty body.
+     *
+     * @throws java.io.IOException
+     *         When the POST request wasn't successful.
+     * @throws org.botblock.javabotblockapi.core.exceptions.RateLimitedException
+     *         When we get rate limited by the BotBlock API (returns error code 429).
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public PostResult postGuildsWithResult(@Nonnull BotBlockAPI botBlockAPI, @Nonnull ServerCounter serverCounter) throws IOException, RateLimitedException{
+        serverCounter.markPosted(serverCounter.getServerCount());
+        return requestHandler.performPOST(getPayload(botBlockAPI, serverCounter));
+    }
+    
+    private PostPayload getPayload(BotBlockAPI botBlockAPI, DiscordApi... discordApis){
+        PostTemplate template = requestHandler.getPostTemplate(discordApis[0].getYourself().getIdAsString(), botBlockAPI);
         
         if(discordApis.length > 1){
-            int guilds = Arrays.stream(discordApis).map(DiscordApi::getServers).mapToInt(Collection::size).sum();
-            json.put("server_count", guilds)
-                .put("shard_count", discordApis.length);
-            
-            List<Integer> shards = new ArrayList<>();
-            for(DiscordApi api : discordApis)
-                shards.add(api.getServers().size());
+            long[] shards = new long[discordApis.length];
+            long guilds = 0;
+            for(int i = 0; i < discordApis.length; i++){
+                shards[i] = discordApis[i].getServers().size();
+                guilds += shards[i];
+            }
             
-            json.put("shards", new JSONArray(Arrays.deepToString(shards.toArray())));
-        }else{
-            json.put("server_count", discordApis[0].getServers().size());
+            return template.payload(guilds, ShardCounts.of(shards));
         }
         
-        botBlockAPI.getTokens().forEach(json::put);
+        return template.payload(discordApis[0].getServers().size());
+    }
+    
+    private PostPayload getPayload(BotBlockAPI botBlockAPI, ServerCounter serverCounter){
+        PostTemplate template = requestHandler.getPostTemplate(serverCounter.getBotId(), botBlockAPI);
+        
+        if(serverCounter.getShardCount() > 1)
+            return template.payload(serverCounter.getServerCount(), ShardCounts.of(serverCounter.getShardServerCounts()));
         
-        requestHandler.performPOST(json, botBlockAPI.getTokens().size());
+        return template.payload(serverCounter.getServerCount());
     }
 }
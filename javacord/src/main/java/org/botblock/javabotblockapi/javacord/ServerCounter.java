@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.javacord;
+
+import org.botblock.javabotblockapi.core.CheckUtil;
+import org.javacord.api.DiscordApi;
+import org.javacord.api.util.event.ListenerManager;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter that keeps track of the amount of Servers per shard using Server join, leave and (un)available listeners.
+ * <br>Posting through {@link org.botblock.javabotblockapi.javacord.PostAction#postGuilds(org.botblock.javabotblockapi.core.BotBlockAPI, ServerCounter) PostAction.postGuilds(BotBlockAPI, ServerCounter)}
+ * reads the counted numbers instead of copying the Server collection of every {@link org.javacord.api.DiscordApi DiscordApi instance}
+ * on each post.
+ *
+ * <p>The counter registers its listeners on the provided DiscordApi instances and counts the already available Servers once.
+ * <br>The shards are counted in the order the DiscordApi instances were provided in. Use {@link #close() close()}
+ * to remove the listeners again.
+ *
+ * @since 6.8.0
+ */
+public class ServerCounter implements AutoCloseable{
+    
+    private final String botId;
+    private final AtomicLongArray counts;
+    private final Object[] locks;
+    private final AtomicLong total = new AtomicLong();
+    private final List<ListenerManager<?>> listenerManagers = new ArrayList<>();
+    
+    private final AtomicLong lastPosted = new AtomicLong();
+    private volatile long changeThreshold = 0;
+    private volatile Runnable changeListener = null;
+    
+    /**
+     * Creates a new ServerCounter for the provided {@link org.javacord.api.DiscordApi DiscordApi instances} and
+     * registers the required listeners on each of them.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When no DiscordApi instance was provided.</li>
+     * </ul>
+     *
+     * @param discordApis
+     *        The {@link org.javacord.api.DiscordApi DiscordApi instances} to count Servers of.
+     */
+    public ServerCounter(@Nonnull DiscordApi... discordApis){
+        CheckUtil.condition(discordApis.length <= 0, "At least one DiscordApi instance needs to be provided!");
+        
+        this.botId = discordApis[0].getYourself().getIdAsString();
+        this.counts = new AtomicLongArray(discordApis.length);
+        this.locks = new Object[discordApis.length];
+        
+        for(int i = 0; i < discordApis.length; i++){
+            // The index is captured per shard so that events don't need to look up their shard.
+            final int shard = i;
+            DiscordApi api = discordApis[i];
+            locks[shard] = new Object();
+            
+            listenerManagers.add(api.addServerJoinListener(event -> update(shard, 1)));
+            listenerManagers.add(api.addServerLeaveListener(event -> update(shard, -1)));
+            listenerManagers.add(api.addServerBecomesAvailableListener(event -> update(shard, 1)));
+            listenerManagers.add(api.addServerBecomesUnavailableListener(event -> update(shard, -1)));
+            
+            // Events received since the listeners were registered are already part of the snapshot, so it replaces
+            // their changes instead of adding to them.
+            synchronized(locks[shard]){
+                add(shard, api.getServers().size() - counts.get(shard));
+            }
+        }
+    }
+    
+    /**
+     * Sets by how many Servers the total count has to change since the last post, before a new post is triggered.
+     * <br>This only has an effect when the counter is used in
+     * {@link org.botblock.javabotblockapi.javacord.PostAction#enableAutoPost(org.botblock.javabotblockapi.core.BotBlockAPI, ServerCounter) PostAction.enableAutoPost(BotBlockAPI, ServerCounter)}.
+     *
+     * <p>Default is 0, which disables change triggered posts.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided threshold is less than 0.</li>
+     * </ul>
+     *
+     * @param  changeThreshold
+     *         The amount of Servers the count has to change by to trigger a post.
+     *
+     * @return The ServerCounter after the threshold was set. Useful for chaining.
+     */
+    public ServerCounter setChangeThreshold(long changeThreshold){
+        CheckUtil.condition(changeThreshold < 0, "ChangeThreshold may not be less than 0.");
+        this.changeThreshold = changeThreshold;
+        
+        return this;
+    }
+    
+    /**
+     * Returns the total amount of Servers counted across all shards.
+     *
+     * @return The total amount of Servers.
+     */
+    public long getServerCount(){
+        return total.get();
+    }
+    
+    /**
+     * Returns the amount of Servers counted for the shard at the provided position.
+     * <br>The position is the one of the DiscordApi instance in the constructor.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided shard is out of range.</li>
+     * </ul>
+     *
+     * @param  shard
+     *         The position of the shard to get the Server count from.
+     *
+     * @return The amount of Servers of the shard.
+     */
+    public long getServerCount(int shard){
+        CheckUtil.condition(shard < 0 || shard >= counts.length(), "Shard " + shard + " is out of range.");
+        
+        return counts.get(shard);
+    }
+    
+    /**
+     * Returns the amount of Servers counted for each shard, in the order the DiscordApi instances were provided in.
+     *
+     * @return Array containing the Server count of each shard.
+     */
+    public long[] getShardServerCounts(){
+        long[] result = new long[counts.length()];
+        for(int i = 0; i < result.length; i++)
+            result[i] = counts.get(i);
+        
+        return result;
+    }
+    
+    /**
+     * Returns the amount of shards this counter keeps track of.
+     *
+     * @return The amount of shards.
+     */
+    public int getShardCount(){
+        return counts.length();
+    }
+    
+    /**
+     * Removes the listeners of this counter from all DiscordApi instances.
+     * <br>The counts are no longer updated afterwards.
+     */
+    @Override
+    public void close(){
+        listenerManagers.forEach(ListenerManager::remove);
+    }
+    
+    String getBotId(){
+        return botId;
+    }
+    
+    void setChangeListener(Runnable changeListener){
+        this.changeListener = changeListener;
+    }
+    
+    void markPosted(long count){
+        lastPosted.set(count);
+    }
+    
+    private void update(int shard, long delta){
+        synchronized(locks[shard]){
+            add(shard, delta);
+        }
+    }
+    
+    private void add(int shard, long delta){
+        counts.addAndGet(shard, delta);
+        
+        long count = total.addAndGet(delta);
+        Runnable listener = changeListener;
+        long threshold = changeThreshold;
+        if(listener == null || threshold <= 0)
+            return;
+        
+        long posted = lastPosted.get();
+        // Only one event may trigger a post for the same change.
+        if(Math.abs(count - posted) >= threshold && lastPosted.compareAndSet(posted, count))
+            listener.run();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.javacord;
+
+import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.user.User;
+import org.javacord.api.listener.server.ServerBecomesAvailableListener;
+import org.javacord.api.listener.server.ServerBecomesUnavailableListener;
+import org.javacord.api.listener.server.ServerJoinListener;
+import org.javacord.api.listener.server.ServerLeaveListener;
+import org.javacord.api.util.event.ListenerManager;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerCounterTest{
+    
+    @Test
+    void serverBecomingAvailableWhileRegisteringIsCountedOnce(){
+        FakeApi fake = new FakeApi(2);
+        // The server is cached before its event is dispatched, which happens while the counter takes its snapshot.
+        fake.onGetServers = () -> {
+            fake.servers++;
+            fake.available.forEach(listener -> listener.onServerBecomesAvailable(null));
+        };
+        
+        try(ServerCounter counter = new ServerCounter(fake.api)){
+            assertEquals(3, counter.getServerCount());
+            assertEquals(3, counter.getServerCount(0));
+        }
+    }
+    
+    @Test
+    void serverLeavingWhileRegisteringIsCountedOnce(){
+        FakeApi fake = new FakeApi(2);
+        fake.onGetServers = () -> {
+            fake.servers--;
+            fake.leave.forEach(listener -> listener.onServerLeave(null));
+        };
+        
+        try(ServerCounter counter = new ServerCounter(fake.api)){
+            assertEquals(1, counter.getServerCount());
+        }
+    }
+    
+    @Test
+    void reconnectRestoresServerCount(){
+        FakeApi first = new FakeApi(3);
+        FakeApi second = new FakeApi(2);
+        
+        try(ServerCounter counter = new ServerCounter(first.api, second.api)){
+            assertArrayEquals(new long[]{3, 2}, counter.getShardServerCounts());
+            
+            // A reconnect of the first shard makes its servers unavailable and available again.
+            for(int i = 0; i < 3; i++)
+                first.unavailable.forEach(listener -> listener.onServerBecomesUnavailable(null));
+            assertArrayEquals(new long[]{0, 2}, counter.getShardServerCounts());
+            assertEquals(2, counter.getServerCount());
+            
+            for(int i = 0; i < 3; i++)
+                first.available.forEach(listener -> listener.onServerBecomesAvailable(null));
+            second.join.forEach(listener -> listener.onServerJoin(null));
+            assertArrayEquals(new long[]{3, 3}, counter.getShardServerCounts());
+            assertEquals(6, counter.getServerCount());
+        }
+        
+        assertTrue(first.available.isEmpty(), "Listeners should be removed on close");
+        assertTrue(second.join.isEmpty(), "Listeners should be removed on close");
+    }
+    
+    /* DiscordApi backed by a proxy, which only knows the methods used by the ServerCounter. */
+    private static class FakeApi{
+        
+        final List<ServerJoinListener> join = new ArrayList<>();
+        final List<ServerLeaveListener> leave = new ArrayList<>();
+        final List<ServerBecomesAvailableListener> available = new ArrayList<>();
+        final List<ServerBecomesUnavailableListener> unavailable = new ArrayList<>();
+        final DiscordApi api;
+        
+        int servers;
+        Runnable onGetServers = () -> {};
+        
+        FakeApi(int servers){
+            this.servers = servers;
+            
+            User user = proxy(User.class, (proxy, method, args) -> "getIdAsString".equals(method.getName()) ? "123" : null);
+            this.api = proxy(DiscordApi.class, (proxy, method, args) -> {
+                switch(method.getName()){
+                    case "getYourself":
+                        return user;
+                    case "getServers":
+                        onGetServers.run();
+                        return Collections.nCopies(this.servers, null);
+                    case "addServerJoinListener":
+                        return register(join, (ServerJoinListener)args[0]);
+                    case "addServerLeaveListener":
+                        return register(leave, (ServerLeaveListener)args[0]);
+                    case "addServerBecomesAvailableListener":
+                        return register(available, (ServerBecomesAvailableListener)args[0]);
+                    case "addServerBecomesUnavailableListener":
+                        return register(unavailable, (ServerBecomesUnavailableListener)args[0]);
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+        
+        private static <T> ListenerManager<T> register(List<T> listeners, T listener){
+            listeners.add(listener);
+            return proxy(ListenerManager.class, (proxy, method, args) -> {
+                if("remove".equals(method.getName()))
+                    listeners.remove(listener);
+                
+                return proxy;
+            });
+        }
+        
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<?> type, InvocationHandler handler){
+            return (T)Proxy.newProxyInstance(ServerCounterTest.class.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+    }
+}
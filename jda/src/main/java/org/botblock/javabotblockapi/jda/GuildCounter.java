@@ -0,0 +1,264 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.jda;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.events.ReadyEvent;
+import net.dv8tion.jda.api.events.ReconnectedEvent;
+import net.dv8tion.jda.api.events.guild.GuildJoinEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import org.botblock.javabotblockapi.core.CheckUtil;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Listener that keeps track of the amount of Guilds per shard using Guild join, leave and ready events.
+ * <br>Posting through {@link org.botblock.javabotblockapi.jda.PostAction#postGuilds(GuildCounter, org.botblock.javabotblockapi.core.BotBlockAPI) PostAction.postGuilds(GuildCounter, BotBlockAPI)}
+ * reads the counted numbers instead of going through the Guild cache of every shard on each post.
+ *
+ * <p>The counter registers itself as listener on the provided {@link net.dv8tion.jda.api.JDA JDA} or
+ * {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager instance} and counts the already cached Guilds once.
+ * <br>Use {@link #close() close()} to remove the listener again.
+ *
+ * @since 6.8.0
+ */
+public class GuildCounter extends ListenerAdapter implements AutoCloseable{
+    
+    private final JDA jda;
+    private final ShardManager shardManager;
+    private final String botId;
+    
+    private final AtomicLongArray counts;
+    private final AtomicLong total = new AtomicLong();
+    
+    private final AtomicLong lastPosted = new AtomicLong();
+    private volatile long changeThreshold = 0;
+    private volatile Runnable changeListener = null;
+    
+    /**
+     * Creates a new GuildCounter for the provided {@link net.dv8tion.jda.api.JDA JDA instance} and registers it as
+     * event listener.
+     *
+     * @param jda
+     *        The {@link net.dv8tion.jda.api.JDA JDA instance} to count Guilds of.
+     */
+    public GuildCounter(@Nonnull JDA jda){
+        this.jda = jda;
+        this.shardManager = null;
+        this.botId = jda.getSelfUser().getId();
+        this.counts = new AtomicLongArray(1);
+        
+        set(0, jda.getGuildCache().size());
+        jda.addEventListener(this);
+    }
+    
+    /**
+     * Creates a new GuildCounter for the provided {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager instance}
+     * and registers it as event listener.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the first shard of the ShardManager is null.</li>
+     * </ul>
+     *
+     * @param shardManager
+     *        The {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager instance} to count Guilds of.
+     */
+    public GuildCounter(@Nonnull ShardManager shardManager){
+        JDA shard = shardManager.getShardById(0);
+        CheckUtil.condition(shard == null, "Shard 0 of ShardManager was invalid (null).");
+        
+        this.jda = null;
+        this.shardManager = shardManager;
+        this.botId = shard.getSelfUser().getId();
+        this.counts = new AtomicLongArray(shardManager.getShardsTotal());
+        
+        for(JDA jda : shardManager.getShardCache())
+            set(jda.getShardInfo().getShardId(), jda.getGuildCache().size());
+        
+        shardManager.addEventListener(this);
+    }
+    
+    /**
+     * Sets by how many Guilds the total count has to change since the last post, before a new post is triggered.
+     * <br>This only has an effect when the counter is used in
+     * {@link org.botblock.javabotblockapi.jda.PostAction#enableAutoPost(GuildCounter, org.botblock.javabotblockapi.core.BotBlockAPI) PostAction.enableAutoPost(GuildCounter, BotBlockAPI)}.
+     *
+     * <p>Default is 0, which disables change triggered posts.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided threshold is less than 0.</li>
+     * </ul>
+     *
+     * @param  changeThreshold
+     *         The amount of Guilds the count has to change by to trigger a post.
+     *
+     * @return The GuildCounter after the threshold was set. Useful for chaining.
+     */
+    public GuildCounter setChangeThreshold(long changeThreshold){
+        CheckUtil.condition(changeThreshold < 0, "ChangeThreshold may not be less than 0.");
+        this.changeThreshold = changeThreshold;
+        
+        return this;
+    }
+    
+    /**
+     * Returns the total amount of Guilds counted across all shards.
+     *
+     * @return The total amount of Guilds.
+     */
+    public long getGuildCount(){
+        return total.get();
+    }
+    
+    /**
+     * Returns the amount of Guilds counted for the provided shard.
+     * <br>For a counter created from a single {@link net.dv8tion.jda.api.JDA JDA instance} is only shard 0 available.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided shard id is out of range.</li>
+     * </ul>
+     *
+     * @param  shardId
+     *         The id of the shard to get the Guild count from.
+     *
+     * @return The amount of Guilds of the shard.
+     */
+    public long getGuildCount(int shardId){
+        CheckUtil.condition(shardId < 0 || shardId >= counts.length(), "ShardId " + shardId + " is out of range.");
+        
+        return counts.get(shardId);
+    }
+    
+    /**
+     * Returns the amount of Guilds counted for each shard, indexed by shard id.
+     *
+     * @return Array containing the Guild count of each shard.
+     */
+    public long[] getShardGuildCounts(){
+        long[] result = new long[counts.length()];
+        for(int i = 0; i < result.length; i++)
+            result[i] = counts.get(i);
+        
+        return result;
+    }
+    
+    /**
+     * Returns the amount of shards this counter keeps track of.
+     *
+     * @return The amount of shards.
+     */
+    public int getShardCount(){
+        return counts.length();
+    }
+    
+    /**
+     * Removes this counter as event listener from the JDA or ShardManager instance.
+     * <br>The counts are no longer updated afterwards.
+     */
+    @Override
+    public void close(){
+        if(shardManager != null)
+            shardManager.removeEventListener(this);
+        else
+            jda.removeEventListener(this);
+    }
+    
+    @Override
+    public void onReady(@Nonnull ReadyEvent event){
+        set(getShardId(event.getJDA()), event.getGuildTotalCount());
+    }
+    
+    @Override
+    public void onReconnected(@Nonnull ReconnectedEvent event){
+        // Events may have been missed while disconnected, so the cache is counted again.
+        set(getShardId(event.getJDA()), event.getJDA().getGuildCache().size());
+    }
+    
+    @Override
+    public void onGuildJoin(@Nonnull GuildJoinEvent event){
+        add(getShardId(event.getJDA()), 1);
+    }
+    
+    @Override
+    public void onGuildLeave(@Nonnull GuildLeaveEvent event){
+        add(getShardId(event.getJDA()), -1);
+    }
+    
+    String getBotId(){
+        return botId;
+    }
+    
+    boolean isSharded(){
+        return shardManager != null;
+    }
+    
+    JDA.ShardInfo getShardInfo(){
+        return jda.getShardInfo();
+    }
+    
+    void setChangeListener(Runnable changeListener){
+        this.changeListener = changeListener;
+    }
+    
+    void markPosted(long count){
+        lastPosted.set(count);
+    }
+    
+    private int getShardId(JDA jda){
+        return shardManager == null ? 0 : jda.getShardInfo().getShardId();
+    }
+    
+    private void set(int shardId, long count){
+        if(shardId < 0 || shardId >= counts.length())
+            return;
+        
+        total.addAndGet(count - counts.getAndSet(shardId, count));
+        changed();
+    }
+    
+    private void add(int shardId, long delta){
+        if(shardId < 0 || shardId >= counts.length())
+            return;
+        
+        counts.addAndGet(shardId, delta);
+        total.addAndGet(delta);
+        changed();
+    }
+    
+    private void changed(){
+        Runnable listener = changeListener;
+        long threshold = changeThreshold;
+        if(listener == null || threshold <= 0)
+            return;
+        
+        long posted = lastPosted.get();
+        // Read after the posted count, so that a count older than the last post can't trigger another one.
+        long count = total.get();
+        // Only one event may trigger a post for the same change.
+        if(Math.abs(count - posted) >= threshold && lastPosted.compareAndSet(posted, count))
+            listener.run();
+    }
+}
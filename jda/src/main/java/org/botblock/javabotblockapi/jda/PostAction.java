@@ -24,21 +24,24 @@ import org.botblock.javabotblockapi.core.BotBlockAPI;
 import org.botblock.javabotblockapi.core.Info;
 import org.botblock.javabotblockapi.core.exceptions.RateLimitedException;
 import org.botblock.javabotblockapi.core.CheckUtil;
+import org.botblock.javabotblockapi.requests.RateLimitMode;
+import org.botblock.javabotblockapi.requests.TimeoutSettings;
+import org.botblock.javabotblockapi.requests.handler.PostPayload;
+import org.botblock.javabotblockapi.requests.handler.PostScheduler;
+import org.botblock.javabotblockapi.requests.handler.PostTemplate;
 import org.botblock.javabotblockapi.requests.handler.RequestHandler;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import org.botblock.javabotblockapi.requests.objects.PostResult;
+import org.botblock.javabotblockapi.requests.handler.ShardCounts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Class used to perform POST requests towards the <a href="https://botblock.org/api/docs#count" target="_blank">/api/count</a> 
@@ -48,6 +51,8 @@ import java.util.concurrent.TimeUnit;
  * {@link #enableAutoPost(JDA, BotBlockAPI) automatically}.
  * <br>It also allows you to choose, if you want to use a {@link net.dv8tion.jda.api.JDA JDA instance} or a
  * {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager instance}.
+ * <br>Bots with many shards may use a {@link org.botblock.javabotblockapi.jda.GuildCounter GuildCounter} instead, which
+ * keeps track of the Guild counts through events.
  * 
  * <p>If you want to post without using either instance, use the {@link org.botblock.javabotblockapi.requests.PostAction normal PostAction}.
  */
@@ -55,7 +60,7 @@ public class PostAction{
     private final Logger LOG = LoggerFactory.getLogger("JavaBotBlockAPI - PostAction (JDA)");
     
     private final RequestHandler requestHandler;
-    private final ScheduledExecutorService scheduler;
+    private final PostScheduler scheduler;
     
     /**
      * Creates a new instance of this class.
@@ -88,16 +93,91 @@ public class PostAction{
         this.scheduler = requestHandler.getScheduler();
     }
     
+    /**
+     * Sets how POST requests are handled while the BotBlock API rate limits them. Default is
+     * {@link org.botblock.javabotblockapi.requests.RateLimitMode#FAIL_FAST RateLimitMode.FAIL_FAST}.
+     * <br>Once a request got rate limited are further requests towards the same route not sent to the API until the
+     * delay provided by it passed. Depending on the mode do they either fail right away, wait or get queued.
+     *
+     * @param  rateLimitMode
+     *         The {@link org.botblock.javabotblockapi.requests.RateLimitMode RateLimitMode} to use.
+     *
+     * @since  6.8.0
+     */
+    public void setRateLimitMode(@Nonnull RateLimitMode rateLimitMode){
+        requestHandler.setRateLimitMode(rateLimitMode);
+    }
+    
+    /**
+     * Sets the base URL the requests are sent to. Default is {@code https://botblock.org/api/}.
+     * <br>This is meant for testing against a local instance of the BotBlock API, like the one of the test-support
+     * module, which receives the requests instead of BotBlock itself.
+     * <br>Payloads skipped because they didn't change are posted again to the new base URL.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided base URL is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided base URL doesn't end with a {@code /}.</li>
+     * </ul>
+     *
+     * @param  baseUrl
+     *         The base URL to use, e.g. {@code http://localhost:8080/api/}.
+     *
+     * @since  6.8.0
+     */
+    public void setBaseUrl(@Nonnull String baseUrl){
+        requestHandler.setBaseUrl(baseUrl);
+    }
+    
+    /**
+     * Sets the {@link org.botblock.javabotblockapi.requests.TimeoutSettings TimeoutSettings} used for POST requests.
+     * <br>By default are timeouts derived from the latency of previous posts, see
+     * {@link org.botblock.javabotblockapi.requests.TimeoutSettings#getDefault() TimeoutSettings.getDefault()}.
+     *
+     * @param  timeoutSettings
+     *         The {@link org.botblock.javabotblockapi.requests.TimeoutSettings TimeoutSettings} to use.
+     *
+     * @since  6.8.0
+     */
+    public void setTimeoutSettings(@Nonnull TimeoutSettings timeoutSettings){
+        requestHandler.setTimeoutSettings(timeoutSettings);
+    }
+    
+    /**
+     * Returns the result of the last post performed by an auto-post task of this PostAction.
+     * <br>Skipped posts don't change the last result, while rate limited posts are included.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult} of the last auto-post.
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public PostResult getLastResult(){
+        return requestHandler.getLastResult();
+    }
+    
+    /**
+     * Sets a listener that receives the result of every post performed by an auto-post task of this PostAction,
+     * including rate limited posts.
+     * <br>The listener is called on the thread of the auto-post task. Exceptions thrown by it are caught and logged.
+     *
+     * @param  resultListener
+     *         The listener to call with each {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult},
+     *         or null to remove the current one.
+     *
+     * @since  6.8.0
+     */
+    public void setResultListener(@Nullable Consumer<PostResult> resultListener){
+        requestHandler.setResultListener(resultListener);
+    }
+    
     /**
      * Disables the automatic posting of Stats.
-     * <br>This essentially just performs a {@link java.util.concurrent.ScheduledExecutorService#shutdown() ScheduledExecutorService.shutdown()}
-     * by calling the {@link #disableAutoPost(BotBlockAPI) disableAutoPost(null)} method.
+     * <br>This cancels all auto-post tasks of this PostAction by calling the {@link #disableAutoPost(BotBlockAPI) disableAutoPost(null)} method.
      *
      * <p>Note that using this method will NOT make the scheduler wait for previously scheduled tasks to complete.
      * <br>If you want to wait for the tasks to complete use {@link #disableAutoPost(BotBlockAPI) disableAutoPost(BotBlockAPI)} or
      * {@link #disableAutoPost(long, TimeUnit) disableAutoPost(long, TimeUnit)} instead.
-     *
-     * @see java.util.concurrent.ScheduledExecutorService#shutdown()
      */
     public void disableAutoPost(){
         disableAutoPost(null);
@@ -108,8 +188,7 @@ public class PostAction{
      * <br>Unlike {@link #disableAutoPost() disableAutoPost()} can you make the scheduler wait for all scheduled tasks to 
      * finish, or to time out after n minutes by providing the {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlock instance}.
      *
-     * <p>Passing null as argument will just perform a {@link java.util.concurrent.ScheduledExecutorService#shutdown() ScheduledExecutorService.shutdown()}
-     * similar to what the disableAutoPost() method does.
+     * <p>Passing null as argument will just cancel the tasks similar to what the disableAutoPost() method does.
      *
      * <p>If you want to use a different delay than what you've set in the BotBlockAPI instance, can you use 
      * {@link #disableAutoPost(long, TimeUnit) disableAutoPost(long, TimeUnit)} instead.
@@ -117,12 +196,9 @@ public class PostAction{
      * <p>This method may throw a {@link java.lang.InterruptedException InterruptedException} in the terminal.
      *
      * @param botBlockAPI
-     *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} or null to just perform a shutdown.
+     *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} or null to just cancel the tasks.
      *
      * @since 6.0.0
-     * 
-     * @see java.util.concurrent.ScheduledExecutorService#shutdown()
-     * @see java.util.concurrent.ScheduledExecutorService#awaitTermination(long, TimeUnit)
      */
     public void disableAutoPost(@Nullable BotBlockAPI botBlockAPI){
         if(botBlockAPI != null){
@@ -130,7 +206,7 @@ public class PostAction{
             return;
         }
         
-        scheduler.shutdown();
+        scheduler.cancel();
     }
     
     /**
@@ -151,14 +227,12 @@ public class PostAction{
      *        The {@link java.util.concurrent.TimeUnit TimeUnit} to use.
      *
      * @since 6.0.0
-     *
-     * @see java.util.concurrent.ScheduledExecutorService#awaitTermination(long, TimeUnit)
      */
     public void disableAutoPost(long time, @Nonnull TimeUnit timeUnit){
         CheckUtil.condition(time <= 0, "Time may not be less or equal to 0");
         
         try{
-            scheduler.shutdown();
+            scheduler.cancel();
             if(!scheduler.awaitTermination(time, timeUnit))
                 LOG.warn("Scheduler couldn't properly wait for termination.");
         }catch(InterruptedException ex){
@@ -167,8 +241,7 @@ public class PostAction{
     }
     
     /**
-     * Starts a {@link java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate(Runnable, long, long, TimeUnit) scheduleAtFixedRate}
-     * task, which will post the statistics of the provided {@link net.dv8tion.jda.api.JDA JDA instance} every n minutes.
+     * Starts a task at a fixed rate, which will post the statistics of the provided {@link net.dv8tion.jda.api.JDA JDA instance} every n minutes.
      * 
      * <p>If the post can't be performed - either by getting a {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException}
      * or by getting an {@link java.io.IOException IOException} - will the exception be catched and the stacktrace printed.
@@ -176,7 +249,12 @@ public class PostAction{
      * <p>The scheduler will wait an initial delay of 1 minute and then performs a task every n minutes, where n is the
      * time set in {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateDelay(Integer) BotBlockAPI.Builder.setUpdateDelay(Integer)}
      * (default is 30 minutes).
+     * <br>Each post may be delayed by a random time up to the jitter set in
+     * {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateJitter(long, TimeUnit) BotBlockAPI.Builder.setUpdateJitter(long, TimeUnit)}.
      * 
+     * <p>When {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setSkipUnchanged(boolean) skipping unchanged posts}
+     * is enabled, will a post be skipped if its payload didn't change since the last successful post.
+     *
      * <p>If you have a sharded bot is it recommendet to use {@link #enableAutoPost(ShardManager, BotBlockAPI) enableAutoPost(ShardManager, BotBlockAPI)} instead.
      * 
      * @param jda
@@ -185,18 +263,17 @@ public class PostAction{
      *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
      */
     public void enableAutoPost(@Nonnull JDA jda, @Nonnull BotBlockAPI botBlockAPI){
-        scheduler.scheduleAtFixedRate(() -> {
+        scheduler.schedule(() -> {
             try{
-                postGuilds(jda, botBlockAPI);
+                requestHandler.performAutoPOST(getPayload(jda, botBlockAPI), botBlockAPI);
             }catch(IOException | RateLimitedException ex){
                 LOG.warn("Got an exception while performing a auto-post task!", ex);
             }
-        }, 1, botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES);
+        }, 1, botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES, botBlockAPI.getUpdateJitter());
     }
     
     /**
-     * Starts a {@link java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate(Runnable, long, long, TimeUnit) scheduleAtFixedRate}
-     * task, which will post the statistics of the provided {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager instance} every n minutes.
+     * Starts a task at a fixed rate, which will post the statistics of the provided {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager instance} every n minutes.
      *
      * <p>If the post can't be performed - either by getting a {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException}
      * or by getting an {@link java.io.IOException IOException} - will the exception be caught and a Stacktrace printed.
@@ -204,20 +281,63 @@ public class PostAction{
      * <p>The scheduler will wait an initial delay of 1 minute and then performs a task every n minutes, where n is the
      * time set in {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateDelay(Integer) BotBlockAPI.Builder.setUpdateDelay(Integer)}
      * (default is 30 minutes).
+     * <br>Each post may be delayed by a random time up to the jitter set in
+     * {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateJitter(long, TimeUnit) BotBlockAPI.Builder.setUpdateJitter(long, TimeUnit)}.
      * 
+     * <p>When {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setSkipUnchanged(boolean) skipping unchanged posts}
+     * is enabled, will a post be skipped if its payload didn't change since the last successful post.
+     *
      * @param shardManager
      *        The {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager instance} to post stats from.
      * @param botBlockAPI
      *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
      */
     public void enableAutoPost(@Nonnull ShardManager shardManager, @Nonnull BotBlockAPI botBlockAPI){
-        scheduler.scheduleAtFixedRate(() -> {
+        scheduler.schedule(() -> {
             try{
-                postGuilds(shardManager, botBlockAPI);
+                requestHandler.performAutoPOST(getPayload(shardManager, botBlockAPI), botBlockAPI);
             }catch(IOException | RateLimitedException ex){
                 LOG.warn("Got an exception while performing a auto-post task!", ex);
             }
-        }, botBlockAPI.getUpdateDelay(), botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES);
+        }, botBlockAPI.getUpdateDelay(), botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES, botBlockAPI.getUpdateJitter());
+    }
+    
+    /**
+     * Starts a task at a fixed rate, which will post the Guild counts of the provided {@link org.botblock.javabotblockapi.jda.GuildCounter GuildCounter} every n minutes.
+     * <br>Unlike the other enableAutoPost methods won't this go through the Guild cache of every shard on each post.
+     *
+     * <p>If a {@link org.botblock.javabotblockapi.jda.GuildCounter#setChangeThreshold(long) change threshold} is set on
+     * the GuildCounter, will an additional post be performed once the Guild count changed by at least that amount
+     * since the last post.
+     *
+     * <p>If the post can't be performed - either by getting a {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException}
+     * or by getting an {@link java.io.IOException IOException} - will the exception be caught and a Stacktrace printed.
+     *
+     * <p>The scheduler will wait an initial delay of 1 minute and then performs a task every n minutes, where n is the
+     * time set in {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateDelay(Integer) BotBlockAPI.Builder.setUpdateDelay(Integer)}
+     * (default is 30 minutes).
+     * <br>Each post may be delayed by a random time up to the jitter set in
+     * {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateJitter(long, TimeUnit) BotBlockAPI.Builder.setUpdateJitter(long, TimeUnit)}.
+     *
+     * @param guildCounter
+     *        The {@link org.botblock.javabotblockapi.jda.GuildCounter GuildCounter instance} to post stats from.
+     * @param botBlockAPI
+     *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
+     *
+     * @since 6.8.0
+     */
+    public void enableAutoPost(@Nonnull GuildCounter guildCounter, @Nonnull BotBlockAPI botBlockAPI){
+        Runnable task = () -> {
+            try{
+                guildCounter.markPosted(guildCounter.getGuildCount());
+                requestHandler.performAutoPOST(getPayload(guildCounter, botBlockAPI), botBlockAPI);
+            }catch(IOException | RateLimitedException ex){
+                LOG.warn("Got an exception while performing a auto-post task!", ex);
+            }
+        };
+        
+        guildCounter.setChangeListener(() -> scheduler.execute(task));
+        scheduler.schedule(task, 1, botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES, botBlockAPI.getUpdateJitter());
     }
     
     /**
@@ -227,6 +347,8 @@ public class PostAction{
      * <p>If the provided JDA instance also is part of a sharded Bot (Amount of shards is larger than 1) will the request
      * also include {@code shard_id} and {@code shard_count}
      * 
+     * <p>Use {@link #postGuildsWithResult(JDA, BotBlockAPI) postGuildsWithResult(JDA, BotBlockAPI)} to receive the result of every site.
+     *
      * @param  jda
      *         The {@link net.dv8tion.jda.api.JDA JDA instance} to post stats from.
      * @param  botBlockAPI
@@ -238,17 +360,36 @@ public class PostAction{
      *         When we get rate limited by the BotBlock API (returns error code 429).
      */
     public void postGuilds(@Nonnull JDA jda, @Nonnull BotBlockAPI botBlockAPI) throws IOException, RateLimitedException{
-        JSONObject json = new JSONObject()
-                .put("server_count", jda.getGuildCache().size())
-                .put("bot_id", jda.getSelfUser().getId());
-        
-        if(jda.getShardInfo().getShardTotal() > 1)
-            json.put("shard_id", jda.getShardInfo().getShardId())
-                .put("shard_count", jda.getShardInfo().getShardTotal());
-        
-        botBlockAPI.getTokens().forEach(json::put);
-        
-        requestHandler.performPOST(json, botBlockAPI.getTokens().size());
+        postGuildsWithResult(jda, botBlockAPI);
+    }
+    
+    /**
+     * Performs a POST request towards the BotBlock API using the information from the provided
+     * {@link net.dv8tion.jda.api.JDA JDA} and {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI} instances.
+     * 
+     * <p>If the provided JDA instance also is part of a sharded Bot (Amount of shards is larger than 1) will the request
+     * also include {@code shard_id} and {@code shard_count}
+     * 
+     * <p>Unlike {@link #postGuilds(JDA, BotBlockAPI) postGuilds(JDA, BotBlockAPI)} does this method return the result of the post.
+     *
+     * @param  jda
+     *         The {@link net.dv8tion.jda.api.JDA JDA instance} to post stats from.
+     * @param  botBlockAPI
+     *         The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
+     *         
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult} containing the
+     *         result of every site, or null if the BotBlock API responded with an empty body.
+     *
+     * @throws java.io.IOException
+     *         When the POST request wasn't successful.
+     * @throws org.botblock.javabotblockapi.core.exceptions.RateLimitedException
+     *         When we get rate limited by the BotBlock API (returns error code 429).
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public PostResult postGuildsWithResult(@Nonnull JDA jda, @Nonnull BotBlockAPI botBlockAPI) throws IOException, RateLimitedException{
+        return requestHandler.performPOST(getPayload(jda, botBlockAPI));
     }
     
     /**
@@ -260,6 +401,8 @@ public class PostAction{
      *     <li>{@link java.lang.IllegalStateException IllegalStateException} - if the first shard of the provided ShardManager is null.</li>
      * </ul>
      * 
+     * <p>Use {@link #postGuildsWithResult(ShardManager, BotBlockAPI) postGuildsWithResult(ShardManager, BotBlockAPI)} to receive the result of every site.
+     *
      * @param  shardManager
      *         The {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager instance} to post stats from.
      * @param  botBlockAPI
@@ -271,21 +414,132 @@ public class PostAction{
      *         When we get rate limited by the BotBlock API (returns error code 429).
      */
     public void postGuilds(@Nonnull ShardManager shardManager, @Nonnull BotBlockAPI botBlockAPI) throws IOException, RateLimitedException{
+        postGuildsWithResult(shardManager, botBlockAPI);
+    }
+    
+    /**
+     * Performs a POST request towards the BotBlock API using the information from the provided
+     * {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager} and {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI} instances.
+     *
+     * <p>The following Exceptions may be thrown by the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - if the first shard of the provided ShardManager is null.</li>
+     * </ul>
+     * 
+     * <p>Unlike {@link #postGuilds(ShardManager, BotBlockAPI) postGuilds(ShardManager, BotBlockAPI)} does this method return the result of the post.
+     *
+     * @param  shardManager
+     *         The {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager instance} to post stats from.
+     * @param  botBlockAPI
+     *         The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult} containing the
+     *         result of every site, or null if the BotBlock API responded with an empty body.
+     *
+     * @throws java.io.IOException
+     *         When the POST request wasn't successful.
+     * @throws org.botblock.javabotblockapi.core.exceptions.RateLimitedException
+     *         When we get rate limited by the BotBlock API (returns error code 429).
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public PostResult postGuildsWithResult(@Nonnull ShardManager shardManager, @Nonnull BotBlockAPI botBlockAPI) throws IOException, RateLimitedException{
+        return requestHandler.performPOST(getPayload(shardManager, botBlockAPI));
+    }
+    
+    /**
+     * Performs a POST request towards the BotBlock API using the Guild counts of the provided
+     * {@link org.botblock.javabotblockapi.jda.GuildCounter GuildCounter} and the
+     * {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance}.
+     *
+     * <p>If the GuildCounter was created from a {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager} will the
+     * request include the {@code shards} array, similar to {@link #postGuilds(ShardManager, BotBlockAPI) postGuilds(ShardManager, BotBlockAPI)}.
+     *
+     * <p>Use {@link #postGuildsWithResult(GuildCounter, BotBlockAPI) postGuildsWithResult(GuildCounter, BotBlockAPI)} to receive the result of every site.
+     *
+     * @param  guildCounter
+     *         The {@link org.botblock.javabotblockapi.jda.GuildCounter GuildCounter instance} to post stats from.
+     * @param  botBlockAPI
+     *         The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
+     *
+     * @throws java.io.IOException
+     *         When the POST request wasn't successful.
+     * @throws org.botblock.javabotblockapi.core.exceptions.RateLimitedException
+     *         When we get rate limited by the BotBlock API (returns error code 429).
+     *
+     * @since  6.8.0
+     */
+    public void postGuilds(@Nonnull GuildCounter guildCounter, @Nonnull BotBlockAPI botBlockAPI) throws IOException, RateLimitedException{
+        postGuildsWithResult(guildCounter, botBlockAPI);
+    }
+    
+    /**
+     * Performs a POST request towards the BotBlock API using the Guild counts of the provided
+     * {@link org.botblock.javabotblockapi.jda.GuildCounter GuildCounter} and the
+     * {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance}.
+     *
+     * <p>If the GuildCounter was created from a {@link net.dv8tion.jda.api.sharding.ShardManager ShardManager} will the
+     * request include the {@code shards} array, similar to {@link #postGuilds(ShardManager, BotBlockAPI) postGuilds(ShardManager, BotBlockAPI)}.
+     *
+     * <p>Unlike {@link #postGuilds(GuildCounter, BotBlockAPI) postGuilds(GuildCounter, BotBlockAPI)} does this method return the result of the post.
+     *
+     * @param  guildCounter
+     *         The {@link org.botblock.javabotblockapi.jda.GuildCounter GuildCounter instance} to post stats from.
+     * @param  botBlockAPI
+     *         The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult} containing the
+     *         result of every site, or null if the BotBlock API responded with an empty body.
+     *
+     * @throws java.io.IOException
+     *         When the POST request wasn't successful.
+     * @throws org.botblock.javabotblockapi.core.exceptions.RateLimitedException
+     *         When we get rate limited by the BotBlock API (returns error code 429).
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public PostResult postGuildsWithResult(@Nonnull GuildCounter guildCounter, @Nonnull BotBlockAPI botBlockAPI) throws IOException, RateLimitedException{
+        guildCounter.markPosted(guildCounter.getGuildCount());
+        return requestHandler.performPOST(getPayload(guildCounter, botBlockAPI));
+    }
+    
+    private PostPayload getPayload(JDA jda, BotBlockAPI botBlockAPI){
+        PostTemplate template = requestHandler.getPostTemplate(jda.getSelfUser().getId(), botBlockAPI);
+        
+        if(jda.getShardInfo().getShardTotal() > 1)
+            return template.payload(jda.getGuildCache().size(), jda.getShardInfo().getShardId(), jda.getShardInfo().getShardTotal());
+        
+        return template.payload(jda.getGuildCache().size());
+    }
+    
+    private PostPayload getPayload(ShardManager shardManager, BotBlockAPI botBlockAPI){
         JDA shard = shardManager.getShardById(0);
         CheckUtil.condition(shard == null, "Shard 0 of ShardManager was invalid (null).");
         
-        JSONObject json = new JSONObject()
-                .put("server_count", shardManager.getGuildCache().size())
-                .put("bot_id", shard.getSelfUser().getId())
-                .put("shard_count", shardManager.getShardCache().size());
+        long[] shards = new long[(int)shardManager.getShardCache().size()];
+        int i = 0;
+        for(JDA jda : shardManager.getShardCache()){
+            if(i == shards.length)
+                break;
+            
+            shards[i++] = jda.getGuildCache().size();
+        }
+        
+        return requestHandler.getPostTemplate(shard.getSelfUser().getId(), botBlockAPI)
+                .payload(shardManager.getGuildCache().size(), ShardCounts.of(i == shards.length ? shards : Arrays.copyOf(shards, i)));
+    }
     
-        List<Long> shards = new ArrayList<>();
-        for(JDA jda : shardManager.getShardCache())
-            shards.add(jda.getGuildCache().size());
+    private PostPayload getPayload(GuildCounter guildCounter, BotBlockAPI botBlockAPI){
+        PostTemplate template = requestHandler.getPostTemplate(guildCounter.getBotId(), botBlockAPI);
+        
+        if(guildCounter.isSharded())
+            return template.payload(guildCounter.getGuildCount(), ShardCounts.of(guildCounter.getShardGuildCounts()));
         
-        json.put("shards", new JSONArray(Arrays.deepToString(shards.toArray())));
-        botBlockAPI.getTokens().forEach(json::put);
+        if(guildCounter.getShardInfo().getShardTotal() > 1)
+            return template.payload(guildCounter.getGuildCount(), guildCounter.getShardInfo().getShardId(), guildCounter.getShardInfo().getShardTotal());
         
-        requestHandler.performPOST(json, botBlockAPI.getTokens().size());
+        return template.payload(guildCounter.getGuildCount());
     }
 }
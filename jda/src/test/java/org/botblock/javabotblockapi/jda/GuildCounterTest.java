@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.jda;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.SelfUser;
+import net.dv8tion.jda.api.events.guild.GuildJoinEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.utils.cache.SnowflakeCacheView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuildCounterTest{
+    
+    private JDA jda;
+    private GuildCounter counter;
+    private final AtomicInteger triggers = new AtomicInteger();
+    
+    @BeforeEach
+    void setUp(){
+        SelfUser user = proxy(SelfUser.class, (proxy, method, args) -> "getId".equals(method.getName()) ? "123" : null);
+        SnowflakeCacheView<?> guilds = proxy(SnowflakeCacheView.class, (proxy, method, args) -> {
+            if("size".equals(method.getName()))
+                return 0L;
+            
+            throw new UnsupportedOperationException(method.getName());
+        });
+        
+        jda = proxy(JDA.class, (proxy, method, args) -> {
+            switch(method.getName()){
+                case "getSelfUser":
+                    return user;
+                case "getGuildCache":
+                    return guilds;
+                case "addEventListener":
+                case "removeEventListener":
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        
+        counter = new GuildCounter(jda);
+        counter.setChangeListener(triggers::incrementAndGet);
+        counter.markPosted(0);
+    }
+    
+    @AfterEach
+    void tearDown(){
+        counter.close();
+    }
+    
+    @Test
+    void postsAreTriggeredOncePerThreshold(){
+        counter.setChangeThreshold(5);
+        
+        join(12);
+        assertEquals(12, counter.getGuildCount());
+        // Triggered at 5 and 10.
+        assertEquals(2, triggers.get());
+        
+        // 10 was posted last, so leaving down to 5 triggers again.
+        leave(7);
+        assertEquals(5, counter.getGuildCount());
+        assertEquals(3, triggers.get());
+    }
+    
+    @Test
+    void noPostsAreTriggeredWithoutThreshold(){
+        join(20);
+        leave(20);
+        
+        assertEquals(0, counter.getGuildCount());
+        assertEquals(0, triggers.get());
+    }
+    
+    @Test
+    void concurrentEventsTriggerOnePostPerChange() throws Exception{
+        int threads = 8;
+        int events = 500;
+        counter.setChangeThreshold(10);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try{
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for(int i = 0; i < threads; i++){
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    join(events);
+                    return null;
+                }));
+            }
+            
+            start.countDown();
+            for(Future<?> future : futures)
+                future.get(10, TimeUnit.SECONDS);
+        }finally{
+            executor.shutdownNow();
+        }
+        
+        assertEquals(threads * events, counter.getGuildCount());
+        // Every trigger moves the posted count by at least the threshold, so events racing for the same change
+        // can not trigger more than one post.
+        int triggered = triggers.get();
+        assertTrue(triggered > 0, "Posts should have been triggered");
+        assertTrue(triggered <= threads * events / 10, "Too many posts triggered: " + triggered);
+    }
+    
+    private void join(int amount){
+        for(int i = 0; i < amount; i++)
+            counter.onGuildJoin(new GuildJoinEvent(jda, i, null));
+    }
+    
+    private void leave(int amount){
+        for(int i = 0; i < amount; i++)
+            counter.onGuildLeave(new GuildLeaveEvent(jda, i, null));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, InvocationHandler handler){
+        return (T)Proxy.newProxyInstance(GuildCounterTest.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
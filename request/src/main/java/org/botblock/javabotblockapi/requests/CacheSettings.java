@@ -0,0 +1,456 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests;
+
+import org.botblock.javabotblockapi.core.CheckUtil;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class used to configure the cache of {@link org.botblock.javabotblockapi.requests.GetBotAction GetBotAction} and
+ * {@link org.botblock.javabotblockapi.requests.GetListAction GetListAction}.
+ *
+ * <p>Use the {@link org.botblock.javabotblockapi.requests.CacheSettings.Builder CacheSettings.Builder} class for easy creation.
+ *
+ * @since 6.8.0
+ */
+public class CacheSettings{
+    /**
+     * Default time in milliseconds for how long a cached response is considered fresh (2 minutes).
+     */
+    public static final long DEFAULT_EXPIRE_AFTER = TimeUnit.MINUTES.toMillis(2);
+    
+    /**
+     * Value returned by {@link #getExpireAfter(Endpoint) getExpireAfter(Endpoint)} when cached responses are kept
+     * until they get invalidated.
+     */
+    public static final long NEVER_EXPIRE = -1;
+    
+    /**
+     * Value returned by {@link #getMaximumWeight() getMaximumWeight()} when the cache size isn't limited.
+     */
+    public static final long UNLIMITED = -1;
+    
+    /**
+     * Default time in milliseconds for how old a {@link #getListSnapshot() list snapshot} may be to still be used (1 day).
+     */
+    public static final long DEFAULT_SNAPSHOT_MAX_AGE = TimeUnit.DAYS.toMillis(1);
+    
+    private final boolean enabled;
+    private final Map<Endpoint, Long> expireAfter;
+    private final long maxStaleness;
+    private final long maximumWeight;
+    private final boolean softValues;
+    private final boolean recordStats;
+    private final Path listSnapshot;
+    private final long listSnapshotMaxAge;
+    
+    private CacheSettings(boolean enabled, Map<Endpoint, Long> expireAfter, long maxStaleness, long maximumWeight,
+                          boolean softValues, boolean recordStats, Path listSnapshot, long listSnapshotMaxAge){
+        this.enabled = enabled;
+        this.expireAfter = new EnumMap<>(expireAfter);
+        this.maxStaleness = maxStaleness;
+        this.maximumWeight = maximumWeight;
+        this.softValues = softValues;
+        this.recordStats = recordStats;
+        this.listSnapshot = listSnapshot;
+        this.listSnapshotMaxAge = listSnapshotMaxAge;
+    }
+    
+    /**
+     * Returns a new instance with the default settings.
+     * <br>Responses are cached for {@link #DEFAULT_EXPIRE_AFTER 2 minutes} and are not served once expired.
+     *
+     * @return CacheSettings with the default settings.
+     */
+    public static CacheSettings getDefault(){
+        return new Builder().build();
+    }
+    
+    /**
+     * Returns a new instance that disables the cache.
+     * <br>Every call performs a new request, which is the same as providing {@code true} as {@code disableCache}
+     * argument in the constructors of the GET actions.
+     *
+     * @return CacheSettings with the cache disabled.
+     */
+    public static CacheSettings disabled(){
+        return new Builder().setEnabled(false).build();
+    }
+    
+    /**
+     * Whether responses are cached at all.
+     *
+     * @return {@code true} if responses are cached, {@code false} otherwise.
+     */
+    public boolean isEnabled(){
+        return enabled;
+    }
+    
+    /**
+     * The time in milliseconds for how long a cached response of the provided endpoint is considered fresh.
+     * <br>Returns {@link #NEVER_EXPIRE NEVER_EXPIRE} when responses are kept until they get invalidated.
+     *
+     * @param  endpoint
+     *         The {@link org.botblock.javabotblockapi.requests.CacheSettings.Endpoint Endpoint} to get the time for.
+     *
+     * @return The time in milliseconds for how long a cached response is considered fresh.
+     */
+    public long getExpireAfter(@Nonnull Endpoint endpoint){
+        return expireAfter.get(endpoint);
+    }
+    
+    /**
+     * The time in milliseconds for how long an expired response may still be served while it gets refreshed in the
+     * background. {@code 0} means that stale responses are never served.
+     *
+     * @return The time in milliseconds for how long an expired response may still be served.
+     */
+    public long getMaxStaleness(){
+        return maxStaleness;
+    }
+    
+    /**
+     * Whether expired responses are served while they get refreshed in the background.
+     *
+     * @return {@code true} if stale responses may be served, {@code false} otherwise.
+     */
+    public boolean isStaleWhileRevalidate(){
+        return maxStaleness > 0;
+    }
+    
+    /**
+     * The maximum weight - the approximated size of the cached JSON in bytes - each cache may hold.
+     * <br>Returns {@link #UNLIMITED UNLIMITED} when the size of the caches isn't limited.
+     *
+     * @return The maximum weight of each cache.
+     */
+    public long getMaximumWeight(){
+        return maximumWeight;
+    }
+    
+    /**
+     * Whether cached responses are only softly referenced, allowing the garbage collector to remove them when
+     * memory is running low.
+     *
+     * @return {@code true} if soft references are used, {@code false} otherwise.
+     */
+    public boolean isSoftValues(){
+        return softValues;
+    }
+    
+    /**
+     * Whether the caches record statistics.
+     *
+     * @return {@code true} if statistics are recorded, {@code false} otherwise.
+     */
+    public boolean isRecordStats(){
+        return recordStats;
+    }
+    
+    /**
+     * The file used to keep a snapshot of the cached lists on disk, or {@code null} if no snapshot is used.
+     *
+     * @return Possibly-null Path of the list snapshot.
+     */
+    @Nullable
+    public Path getListSnapshot(){
+        return listSnapshot;
+    }
+    
+    /**
+     * The time in milliseconds for how old the {@link #getListSnapshot() list snapshot} may be to still be used.
+     *
+     * @return The max age of the list snapshot in milliseconds.
+     */
+    public long getListSnapshotMaxAge(){
+        return listSnapshotMaxAge;
+    }
+    
+    /**
+     * The different endpoints of the BotBlock API whose responses are cached.
+     */
+    public enum Endpoint{
+        /**
+         * The <a href="https://botblock.org/api/docs#bots" target="_blank">{@code /api/bots/:id}</a> endpoint used by
+         * {@link org.botblock.javabotblockapi.requests.GetBotAction GetBotAction}.
+         */
+        BOTS,
+        
+        /**
+         * The <a href="https://botblock.org/api/docs#lists" target="_blank">{@code /api/lists}</a> and
+         * <a href="https://botblock.org/api/docs#list" target="_blank">{@code /api/lists/:id}</a> endpoints used by
+         * {@link org.botblock.javabotblockapi.requests.GetListAction GetListAction}.
+         */
+        LISTS
+    }
+    
+    /**
+     * Builder class to create an instance of {@link org.botblock.javabotblockapi.requests.CacheSettings CacheSettings}
+     */
+    public static class Builder{
+        private final Map<Endpoint, Long> expireAfter = new EnumMap<>(Endpoint.class);
+        private boolean enabled = true;
+        private long maxStaleness = 0;
+        private long maximumWeight = UNLIMITED;
+        private boolean softValues = false;
+        private boolean recordStats = false;
+        private Path listSnapshot = null;
+        private long listSnapshotMaxAge = DEFAULT_SNAPSHOT_MAX_AGE;
+        
+        /**
+         * Empty constructor to get the class.
+         */
+        public Builder(){
+            for(Endpoint endpoint : Endpoint.values())
+                expireAfter.put(endpoint, DEFAULT_EXPIRE_AFTER);
+        }
+        
+        /**
+         * Sets whether responses should be cached at all. Default is {@code true}.
+         *
+         * @param  enabled
+         *         Whether responses should be cached.
+         *
+         * @return The Builder after the value was set. Useful for chaining.
+         */
+        public Builder setEnabled(boolean enabled){
+            this.enabled = enabled;
+            return this;
+        }
+        
+        /**
+         * Sets for how long cached responses of all endpoints are considered fresh. Default is 2 minutes.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided time is 0 or lower.</li>
+         * </ul>
+         *
+         * @param  time
+         *         The time for how long a cached response is considered fresh.
+         * @param  timeUnit
+         *         The {@link java.util.concurrent.TimeUnit TimeUnit} to use.
+         *
+         * @return The Builder after the time was set. Useful for chaining.
+         */
+        public Builder setExpireAfter(long time, @Nonnull TimeUnit timeUnit){
+            for(Endpoint endpoint : Endpoint.values())
+                setExpireAfter(endpoint, time, timeUnit);
+            
+            return this;
+        }
+        
+        /**
+         * Sets for how long cached responses of the provided endpoint are considered fresh. Default is 2 minutes.
+         * <br>This allows e.g. to cache the rarely changing lists for longer than the information of bots.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided time is 0 or lower.</li>
+         * </ul>
+         *
+         * @param  endpoint
+         *         The {@link org.botblock.javabotblockapi.requests.CacheSettings.Endpoint Endpoint} to set the time for.
+         * @param  time
+         *         The time for how long a cached response is considered fresh.
+         * @param  timeUnit
+         *         The {@link java.util.concurrent.TimeUnit TimeUnit} to use.
+         *
+         * @return The Builder after the time was set. Useful for chaining.
+         */
+        public Builder setExpireAfter(@Nonnull Endpoint endpoint, long time, @Nonnull TimeUnit timeUnit){
+            CheckUtil.condition(time <= 0, "Expire time may not be less or equal to 0.");
+            
+            expireAfter.put(endpoint, timeUnit.toMillis(time));
+            return this;
+        }
+        
+        /**
+         * Keeps cached responses of all endpoints until they are invalidated through either
+         * {@link org.botblock.javabotblockapi.requests.GetBotAction#invalidateCache() GetBotAction.invalidateCache()} or
+         * {@link org.botblock.javabotblockapi.requests.GetListAction#invalidateCache() GetListAction.invalidateCache()}.
+         *
+         * @return The Builder after the expiry was disabled. Useful for chaining.
+         */
+        public Builder setNeverExpire(){
+            for(Endpoint endpoint : Endpoint.values())
+                setNeverExpire(endpoint);
+            
+            return this;
+        }
+        
+        /**
+         * Keeps cached responses of the provided endpoint until they are invalidated through either
+         * {@link org.botblock.javabotblockapi.requests.GetBotAction#invalidateCache() GetBotAction.invalidateCache()} or
+         * {@link org.botblock.javabotblockapi.requests.GetListAction#invalidateCache() GetListAction.invalidateCache()}.
+         *
+         * @param  endpoint
+         *         The {@link org.botblock.javabotblockapi.requests.CacheSettings.Endpoint Endpoint} to disable the expiry for.
+         *
+         * @return The Builder after the expiry was disabled. Useful for chaining.
+         */
+        public Builder setNeverExpire(@Nonnull Endpoint endpoint){
+            expireAfter.put(endpoint, NEVER_EXPIRE);
+            return this;
+        }
+        
+        /**
+         * Enables serving stale responses while they get refreshed.
+         * <br>Once a cached response is older than {@link #setExpireAfter(long, TimeUnit) the expiry time} will the next
+         * access return it right away and start a refresh in the background, instead of making the caller wait for a
+         * new request.
+         * <br>A response that is older than the expiry time plus the provided max staleness is never returned and
+         * gets requested again, like it would be without this option.
+         *
+         * <p>Errors of a background refresh are logged and the stale response is kept until it expires.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided time is less than 0.</li>
+         * </ul>
+         *
+         * @param  time
+         *         The time for how long an expired response may still be served. {@code 0} disables this option.
+         * @param  timeUnit
+         *         The {@link java.util.concurrent.TimeUnit TimeUnit} to use.
+         *
+         * @return The Builder after the max staleness was set. Useful for chaining.
+         */
+        public Builder setMaxStaleness(long time, @Nonnull TimeUnit timeUnit){
+            CheckUtil.condition(time < 0, "Max staleness may not be less than 0.");
+            
+            this.maxStaleness = timeUnit.toMillis(time);
+            return this;
+        }
+        
+        /**
+         * Limits the size of each cache to the provided amount of bytes.
+         * <br>The size of a cached response is approximated from its JSON representation. Once the limit is reached
+         * are the least recently or least frequently used responses removed.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided amount is 0 or lower.</li>
+         * </ul>
+         *
+         * @param  bytes
+         *         The maximum amount of bytes each cache may hold.
+         *
+         * @return The Builder after the maximum weight was set. Useful for chaining.
+         */
+        public Builder setMaximumWeight(long bytes){
+            CheckUtil.condition(bytes <= 0, "Maximum weight may not be less or equal to 0.");
+            
+            this.maximumWeight = bytes;
+            return this;
+        }
+        
+        /**
+         * Sets whether cached responses should only be softly referenced. Default is {@code false}.
+         * <br>Soft references allow the garbage collector to remove cached responses when memory is running low.
+         *
+         * @param  softValues
+         *         Whether soft references should be used.
+         *
+         * @return The Builder after the value was set. Useful for chaining.
+         */
+        public Builder setSoftValues(boolean softValues){
+            this.softValues = softValues;
+            return this;
+        }
+        
+        /**
+         * Sets whether the caches should record statistics. Default is {@code false}.
+         * <br>The statistics can be received through
+         * {@link org.botblock.javabotblockapi.requests.GetBotAction#getCacheStats() GetBotAction.getCacheStats()} and
+         * {@link org.botblock.javabotblockapi.requests.GetListAction#getCacheStats() GetListAction.getCacheStats()}.
+         *
+         * @param  recordStats
+         *         Whether statistics should be recorded.
+         *
+         * @return The Builder after the value was set. Useful for chaining.
+         */
+        public Builder setRecordStats(boolean recordStats){
+            this.recordStats = recordStats;
+            return this;
+        }
+        
+        /**
+         * Keeps a snapshot of the cached lists in the provided file, using the
+         * {@link #DEFAULT_SNAPSHOT_MAX_AGE default max age of 1 day}.
+         *
+         * @param  file
+         *         The file to keep the snapshot in.
+         *
+         * @return The Builder after the snapshot file was set. Useful for chaining.
+         *
+         * @see #setListSnapshot(Path, long, TimeUnit)
+         */
+        public Builder setListSnapshot(@Nonnull Path file){
+            return setListSnapshot(file, DEFAULT_SNAPSHOT_MAX_AGE, TimeUnit.MILLISECONDS);
+        }
+        
+        /**
+         * Keeps a snapshot of the cached lists in the provided file.
+         * <br>The snapshot is read when a {@link org.botblock.javabotblockapi.requests.GetListAction GetListAction} is
+         * created, so that the first calls are answered from it while the lists get refreshed in the background.
+         * It is updated after every successful request of the lists.
+         *
+         * <p>A snapshot that is older than the provided max age is ignored.
+         * <br>Snapshots are only used when the cache is {@link #setEnabled(boolean) enabled}.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided max age is 0 or lower.</li>
+         * </ul>
+         *
+         * @param  file
+         *         The file to keep the snapshot in.
+         * @param  maxAge
+         *         The time for how old the snapshot may be to still be used.
+         * @param  timeUnit
+         *         The {@link java.util.concurrent.TimeUnit TimeUnit} to use.
+         *
+         * @return The Builder after the snapshot file was set. Useful for chaining.
+         */
+        public Builder setListSnapshot(@Nonnull Path file, long maxAge, @Nonnull TimeUnit timeUnit){
+            CheckUtil.condition(maxAge <= 0, "Snapshot max age may not be less or equal to 0.");
+            
+            this.listSnapshot = file;
+            this.listSnapshotMaxAge = timeUnit.toMillis(maxAge);
+            return this;
+        }
+        
+        /**
+         * Builds the instance of {@link org.botblock.javabotblockapi.requests.CacheSettings CacheSettings}.
+         *
+         * @return The built, usable {@link org.botblock.javabotblockapi.requests.CacheSettings CacheSettings}.
+         */
+        public CacheSettings build(){
+            return new CacheSettings(enabled, expireAfter, maxStaleness, maximumWeight, softValues, recordStats, listSnapshot,
+                    listSnapshotMaxAge);
+        }
+    }
+}
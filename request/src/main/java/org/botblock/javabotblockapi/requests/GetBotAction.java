@@ -18,29 +18,45 @@
 
 package org.botblock.javabotblockapi.requests;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.botblock.javabotblockapi.core.Info;
 import org.botblock.javabotblockapi.core.Site;
 import org.botblock.javabotblockapi.core.CheckUtil;
 import org.botblock.javabotblockapi.core.exceptions.RateLimitedException;
 import org.botblock.javabotblockapi.requests.handler.RequestHandler;
+import org.botblock.javabotblockapi.requests.objects.BotInfo;
+import org.botblock.javabotblockapi.requests.objects.BulkBotInfo;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class used to perform GET actions on the <a href="https://botblock.org/api/docs#bots" target="_blank">{@code /api/bots/:id}</a> endpoint.
  *
  * <p>GET requests are cached for 2 minutes unless disabled through either {@link #GetBotAction(boolean, String) GetBotAction(true, String)}
  * or {@link #GetBotAction(boolean, String, String) GetBotAction(true, String, String)}.
+ * <br>Use {@link #GetBotAction(CacheSettings, String, String) GetBotAction(CacheSettings, String, String)} to configure the
+ * cache instead, e.g. to serve expired responses while they are refreshed in the background.
+ *
+ * <p>{@link #getBot(String) getBot(String)} returns the information as typed
+ * {@link org.botblock.javabotblockapi.requests.objects.BotInfo BotInfo}, which is only parsed once per response and
+ * cached with it. The other getters of this class are based on it.
  *
  * @since 5.0.0
  */
 public class GetBotAction{
     
+    /**
+     * Default amount of requests {@link #getBotInfos(Collection) getBotInfos(Collection)} performs at the same time.
+     */
+    public static final int DEFAULT_BULK_CONCURRENCY = 4;
+    
     private final RequestHandler REQUEST_HANDLER;
     
     private final boolean disableCache;
@@ -121,6 +137,65 @@ public class GetBotAction{
         this.REQUEST_HANDLER = new RequestHandler(userAgent.replace("{id}", id));
     }
     
+    /**
+     * Constructor to get an instance of GetBotAction.
+     * <br>This constructor allows you to configure the internal caching, by providing
+     * {@link org.botblock.javabotblockapi.requests.CacheSettings CacheSettings} as the first argument.
+     *
+     * <p>Using this constructor will set the following default values ({@code {id}} will be replaced with the provided ID):
+     * <br><ul>
+     *     <li>User-Agent: {@code "JavaBotBlockAPI-0000/API_VERSION (Unknown; +https://jbba.dev) DBots/{id}"}</li>
+     * </ul>
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * @param cacheSettings
+     *        The {@link org.botblock.javabotblockapi.requests.CacheSettings CacheSettings} to use for the cache.
+     * @param id
+     *        The id of the bot. This is required for the internal User-Agent.
+     *
+     * @since 6.8.0
+     */
+    public GetBotAction(@Nonnull CacheSettings cacheSettings, @Nonnull String id){
+        this(cacheSettings, String.format(
+                "JavaBotBlockAPI-0000/%s (Unknown; +https://jbba.dev) DBots/{id}",
+                Info.VERSION
+        ), id);
+    }
+    
+    /**
+     * Constructor to get an instance of GetBotAction.
+     * <br>This constructor allows you to configure the internal caching, by providing
+     * {@link org.botblock.javabotblockapi.requests.CacheSettings CacheSettings} as the first argument
+     * and also set a own User-Agent for the requests by providing any String as the second argument.
+     *
+     * <p>Note that you can provide {@code {id}} inside the userAgent to get it replaced with the provided id.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided userAgent or id is empty.</li>
+     * </ul>
+     *
+     * @param cacheSettings
+     *        The {@link org.botblock.javabotblockapi.requests.CacheSettings CacheSettings} to use for the cache.
+     * @param userAgent
+     *        The Name that should be used as User-Agent.
+     * @param id
+     *        The id of the bot. This is required for the internal User-Agent.
+     *
+     * @since 6.8.0
+     */
+    public GetBotAction(@Nonnull CacheSettings cacheSettings, @Nonnull String userAgent, @Nonnull String id){
+        CheckUtil.notEmpty(userAgent, "UserAgent");
+        CheckUtil.notEmpty(id, "ID");
+        
+        this.disableCache = !cacheSettings.isEnabled();
+        this.REQUEST_HANDLER = new RequestHandler(userAgent.replace("{id}", id), cacheSettings);
+    }
+    
     /**
      * Gets the full information of a bot.
      *
@@ -174,6 +249,112 @@ public class GetBotAction{
         return REQUEST_HANDLER.performGetBot(id, disableCache);
     }
     
+    /**
+     * Gets the full information of a bot as {@link org.botblock.javabotblockapi.requests.objects.BotInfo BotInfo}.
+     * <br>The response is only parsed once and the BotInfo is cached together with it, making repeated calls cheap.
+     *
+     * <p>Following Exceptions can be thrown from the HTTP request:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>This method may also return {@code null} if the request wasn't successful.
+     *
+     * @param  id
+     *         The id of the bot to get the information from.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.BotInfo BotInfo} containing the full information of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public BotInfo getBot(long id){
+        return getBot(String.valueOf(id));
+    }
+    
+    /**
+     * Gets the full information of a bot as {@link org.botblock.javabotblockapi.requests.objects.BotInfo BotInfo}.
+     * <br>The response is only parsed once and the BotInfo is cached together with it, making repeated calls cheap.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>Following Exceptions can be thrown from the HTTP request:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>This method may also return {@code null} if the request wasn't successful.
+     *
+     * @param  id
+     *         The id of the bot to get the information from.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.BotInfo BotInfo} containing the full information of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public BotInfo getBot(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return REQUEST_HANDLER.performGetBotInfo(id, disableCache);
+    }
+    
+    /**
+     * Gets the information of multiple bots, using at most {@link #DEFAULT_BULK_CONCURRENCY 4} requests at the same time.
+     *
+     * @param  ids
+     *         The ids of the bots to get the information from.
+     *
+     * @return {@link org.botblock.javabotblockapi.requests.objects.BulkBotInfo BulkBotInfo} containing the information
+     *         of all received bots and the exceptions of all failed bots.
+     *
+     * @see    #getBotInfos(Collection, int)
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public BulkBotInfo getBotInfos(@Nonnull Collection<String> ids){
+        return getBotInfos(ids, DEFAULT_BULK_CONCURRENCY);
+    }
+    
+    /**
+     * Gets the information of multiple bots.
+     * <br>Every id is only requested once, and bots that are already cached are returned without a request.
+     * The remaining bots are requested with at most the provided amount of requests at the same time. When a request
+     * gets rate limited are further requests delayed for the time provided by the BotBlock API, before the bot is
+     * requested again. A bot is requested up to 3 times before its rate limit is reported as failure.
+     *
+     * <p>Exceptions of single bots don't fail this method, but are listed in
+     * {@link org.botblock.javabotblockapi.requests.objects.BulkBotInfo#getFailures() BulkBotInfo.getFailures()}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When one of the provided ids is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided concurrency is less than 1.</li>
+     * </ul>
+     *
+     * @param  ids
+     *         The ids of the bots to get the information from.
+     * @param  maxConcurrency
+     *         The maximum amount of requests to perform at the same time.
+     *
+     * @return {@link org.botblock.javabotblockapi.requests.objects.BulkBotInfo BulkBotInfo} containing the information
+     *         of all received bots and the exceptions of all failed bots.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public BulkBotInfo getBotInfos(@Nonnull Collection<String> ids, int maxConcurrency){
+        checkBulk(ids, maxConcurrency);
+        
+        return REQUEST_HANDLER.performGetBotInfos(ids, maxConcurrency, disableCache);
+    }
+    
     /**
      * Gets the information from the various bot lists.
      * <br>The returned data is entirely dependant on the bot list itself and is therefore unique.
@@ -414,11 +595,11 @@ public class GetBotAction{
     public String getDiscriminator(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        JSONObject json = getBotInfo(id);
-        if(json == null)
+        BotInfo info = getBot(id);
+        if(info == null)
             return null;
         
-        return json.getString("discriminator");
+        return info.getDiscriminator();
     }
     
     /**
@@ -473,11 +654,11 @@ public class GetBotAction{
     public String getGitHub(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        JSONObject json = getBotInfo(id);
-        if(json == null)
+        BotInfo info = getBot(id);
+        if(info == null)
             return null;
         
-        return json.getString("github");
+        return info.getGitHub();
     }
     
     /**
@@ -532,11 +713,11 @@ public class GetBotAction{
     public String getLibrary(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        JSONObject json = getBotInfo(id);
-        if(json == null)
+        BotInfo info = getBot(id);
+        if(info == null)
             return null;
         
-        return json.getString("library");
+        return info.getLibrary();
     }
     
     /**
@@ -591,11 +772,11 @@ public class GetBotAction{
     public String getName(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        JSONObject json = getBotInfo(id);
-        if(json == null)
+        BotInfo info = getBot(id);
+        if(info == null)
             return null;
         
-        return json.getString("username");
+        return info.getName();
     }
     
     /**
@@ -650,11 +831,11 @@ public class GetBotAction{
     public String getOAuthInvite(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        JSONObject json = getBotInfo(id);
-        if(json == null)
+        BotInfo info = getBot(id);
+        if(info == null)
             return null;
         
-        return json.getString("invite");
+        return info.getOAuthInvite();
     }
     
     /**
@@ -705,15 +886,11 @@ public class GetBotAction{
     public List<String> getOwners(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        JSONObject json = getBotInfo(id);
-        if(json == null)
+        BotInfo info = getBot(id);
+        if(info == null)
             return new ArrayList<>();
         
-        List<String> owners = new ArrayList<>();
-        for(int i = 0; i < json.getJSONArray("owners").length(); i++)
-            owners.add(json.getJSONArray("owners").getString(i));
-        
-        return owners;
+        return new ArrayList<>(info.getOwners());
     }
     
     /**
@@ -768,11 +945,11 @@ public class GetBotAction{
     public String getPrefix(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        JSONObject json = getBotInfo(id);
-        if(json == null)
+        BotInfo info = getBot(id);
+        if(info == null)
             return null;
         
-        return json.getString("prefix");
+        return info.getPrefix();
     }
     
     /**
@@ -823,11 +1000,11 @@ public class GetBotAction{
     public Integer getServerCount(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        JSONObject json = getBotInfo(id);
-        if(json == null)
+        BotInfo info = getBot(id);
+        if(info == null)
             return null;
         
-        return json.getInt("server_count");
+        return info.getServerCount();
     }
     
     /**
@@ -878,11 +1055,11 @@ public class GetBotAction{
     public String getSupportLink(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        JSONObject json = getBotInfo(id);
-        if(json == null)
+        BotInfo info = getBot(id);
+        if(info == null)
             return null;
         
-        return json.getString("support");
+        return info.getSupportLink();
     }
     
     /**
@@ -937,10 +1114,992 @@ public class GetBotAction{
     public String getWebsite(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        JSONObject json = getBotInfo(id);
-        if(json == null)
+        BotInfo info = getBot(id);
+        if(info == null)
             return null;
         
-        return json.getString("website");
+        return info.getWebsite();
+    }
+    
+    /**
+     * Gets the statistics of the cache used for the bots.
+     * <br>The statistics are only recorded when enabled through
+     * {@link org.botblock.javabotblockapi.requests.CacheSettings.Builder#setRecordStats(boolean) CacheSettings.Builder.setRecordStats(true)}.
+     * Otherwise are all values of the returned statistics 0.
+     *
+     * @return {@link com.github.benmanes.caffeine.cache.stats.CacheStats CacheStats} of the cache.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CacheStats getCacheStats(){
+        return REQUEST_HANDLER.getBotCacheStats();
+    }
+    
+    /**
+     * Removes all cached responses, so that the next call performs a new request.
+     * <br>This is the only way to refresh the cache when it was configured through
+     * {@link org.botblock.javabotblockapi.requests.CacheSettings.Builder#setNeverExpire() CacheSettings.Builder.setNeverExpire()}.
+     *
+     * @since  6.8.0
+     */
+    public void invalidateCache(){
+        REQUEST_HANDLER.invalidateCaches();
+    }
+    
+    /**
+     * Sets how GET requests are handled while the BotBlock API rate limits them. Default is
+     * {@link org.botblock.javabotblockapi.requests.RateLimitMode#FAIL_FAST RateLimitMode.FAIL_FAST}.
+     * <br>Once a request got rate limited are further requests towards the same route not sent to the API until the
+     * delay provided by it passed. Depending on the mode do they either fail right away, wait or get queued.
+     *
+     * @param  rateLimitMode
+     *         The {@link org.botblock.javabotblockapi.requests.RateLimitMode RateLimitMode} to use.
+     *
+     * @since  6.8.0
+     */
+    public void setRateLimitMode(@Nonnull RateLimitMode rateLimitMode){
+        REQUEST_HANDLER.setRateLimitMode(rateLimitMode);
+    }
+    
+    /**
+     * Sets the base URL the requests are sent to. Default is {@code https://botblock.org/api/}.
+     * <br>This is meant for testing against a local instance of the BotBlock API, like the one of the test-support
+     * module, which receives the requests instead of BotBlock itself.
+     * <br>Cached responses of the previous base URL are discarded.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided base URL is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided base URL doesn't end with a {@code /}.</li>
+     * </ul>
+     *
+     * @param  baseUrl
+     *         The base URL to use, e.g. {@code http://localhost:8080/api/}.
+     *
+     * @since  6.8.0
+     */
+    public void setBaseUrl(@Nonnull String baseUrl){
+        REQUEST_HANDLER.setBaseUrl(baseUrl);
+    }
+    
+    /**
+     * Asynchronously gets the full information of a bot.
+     * <br>This is the non-blocking counterpart of {@link #getBotInfo(long) getBotInfo(long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the full information of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONObject> getBotInfoAsync(long id){
+        return getBotInfoAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the full information of a bot.
+     * <br>This is the non-blocking counterpart of {@link #getBotInfo(String) getBotInfo(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the full information of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONObject> getBotInfoAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return REQUEST_HANDLER.performGetBotAsync(id, disableCache);
+    }
+    
+    /**
+     * Asynchronously gets the full information of a bot as {@link org.botblock.javabotblockapi.requests.objects.BotInfo BotInfo}.
+     * <br>This is the non-blocking counterpart of {@link #getBot(long) getBot(long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the full information of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<BotInfo> getBotAsync(long id){
+        return getBotAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the full information of a bot as {@link org.botblock.javabotblockapi.requests.objects.BotInfo BotInfo}.
+     * <br>This is the non-blocking counterpart of {@link #getBot(String) getBot(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the full information of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<BotInfo> getBotAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return REQUEST_HANDLER.performGetBotInfoAsync(id, disableCache);
+    }
+    
+    /**
+     * Asynchronously gets the information of multiple bots.
+     * <br>This is the non-blocking counterpart of {@link #getBotInfos(Collection, int) getBotInfos(Collection, int)}.
+     * <br>Every id is only requested once, and bots that are already cached are returned without a request.
+     * The remaining bots are requested with at most the provided amount of requests at the same time. When a request
+     * gets rate limited are further requests delayed for the time provided by the BotBlock API, before the bot is
+     * requested again. A bot is requested up to 3 times before its rate limit is reported as failure.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When one of the provided ids is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided concurrency is less than 1.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture completes once all bots were either received or failed.
+     * <br>Cancelling it also cancels all running HTTP requests.
+     *
+     * @param  ids
+     *         The ids of the bots to get the information from.
+     * @param  maxConcurrency
+     *         The maximum amount of requests to perform at the same time.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the information of all
+     *         received bots and the exceptions of all failed bots.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<BulkBotInfo> getBotInfosAsync(@Nonnull Collection<String> ids, int maxConcurrency){
+        checkBulk(ids, maxConcurrency);
+        
+        return REQUEST_HANDLER.performGetBotInfosAsync(ids, maxConcurrency, disableCache);
+    }
+    
+    /**
+     * Asynchronously gets the information from the various bot lists.
+     * <br>This is the non-blocking counterpart of {@link #getBotListInfo(long) getBotListInfo(long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the bot list info from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the information from the different bot lists.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONObject> getBotListInfoAsync(long id){
+        return getBotListInfoAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the information from the various bot lists.
+     * <br>This is the non-blocking counterpart of {@link #getBotListInfo(String) getBotListInfo(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the bot list info from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the information from the different bot lists.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONObject> getBotListInfoAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return Futures.map(getBotInfoAsync(id), json -> json.getJSONObject("list_data"));
+    }
+    
+    /**
+     * Asynchronously gets the information from the specified bot list.
+     * <br>This is the non-blocking counterpart of {@link #getBotListInfo(Long, Site) getBotListInfo(Long, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site does not support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the bot list info from.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get info from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the information of the provided bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONArray> getBotListInfoAsync(@Nonnull Long id, @Nonnull Site site){
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return getBotListInfoAsync(String.valueOf(id), site);
+    }
+    
+    /**
+     * Asynchronously gets the information from the specified bot list.
+     * <br>This is the non-blocking counterpart of {@link #getBotListInfo(Long, String) getBotListInfo(Long, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the bot list info from.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get info from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the information of the provided bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONArray> getBotListInfoAsync(@Nonnull Long id, @Nonnull String site){
+        CheckUtil.notEmpty(site, "site");
+        
+        return getBotListInfoAsync(String.valueOf(id), site);
+    }
+    
+    /**
+     * Asynchronously gets the information from the specified bot list.
+     * <br>This is the non-blocking counterpart of {@link #getBotListInfo(String, Site) getBotListInfo(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site does not support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the bot list info from.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get info from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the information of the provided bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONArray> getBotListInfoAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getBotListInfoAsync(id), json -> json.getJSONArray(site.getName()));
+    }
+    
+    /**
+     * Asynchronously gets the information from the specified bot list.
+     * <br>This is the non-blocking counterpart of {@link #getBotListInfo(String, String) getBotListInfo(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the bot list info from.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get info from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the information of the provided bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONArray> getBotListInfoAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getBotListInfoAsync(id), json -> json.getJSONArray(site));
+    }
+    
+    /**
+     * Asynchronously gets the discriminator of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getDiscriminator(Long) getDiscriminator(Long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the discriminator from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the discriminator of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getDiscriminatorAsync(@Nonnull Long id){
+        return getDiscriminatorAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the discriminator of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getDiscriminator(String) getDiscriminator(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the discriminator from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the discriminator of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getDiscriminatorAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return Futures.map(getBotAsync(id), BotInfo::getDiscriminator);
+    }
+    
+    /**
+     * Asynchronously gets the GitHub link of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getGitHub(Long) getGitHub(Long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the GitHub link from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the GitHub link of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getGitHubAsync(@Nonnull Long id){
+        return getGitHubAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the GitHub link of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getGitHub(String) getGitHub(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the GitHub link from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the GitHub link of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getGitHubAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return Futures.map(getBotAsync(id), BotInfo::getGitHub);
+    }
+    
+    /**
+     * Asynchronously gets the library of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getLibrary(Long) getLibrary(Long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the library from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the library of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getLibraryAsync(@Nonnull Long id){
+        return getLibraryAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the library of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getLibrary(String) getLibrary(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the library from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the library of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getLibraryAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return Futures.map(getBotAsync(id), BotInfo::getLibrary);
+    }
+    
+    /**
+     * Asynchronously gets the name of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getName(Long) getName(Long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the name from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the name of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getNameAsync(@Nonnull Long id){
+        return getNameAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the name of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getName(String) getName(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the name from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the name of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getNameAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return Futures.map(getBotAsync(id), BotInfo::getName);
+    }
+    
+    /**
+     * Asynchronously gets the OAuth invite of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getOAuthInvite(Long) getOAuthInvite(Long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the OAuth invite from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the OAuth link for the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getOAuthInviteAsync(@Nonnull Long id){
+        return getOAuthInviteAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the OAuth invite of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getOAuthInvite(String) getOAuthInvite(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the OAuth invite from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the OAuth link for the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getOAuthInviteAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return Futures.map(getBotAsync(id), BotInfo::getOAuthInvite);
+    }
+    
+    /**
+     * Asynchronously gets the owners of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getOwners(Long) getOwners(Long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the owners from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the owners of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<List<String>> getOwnersAsync(@Nonnull Long id){
+        return getOwnersAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the owners of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getOwners(String) getOwners(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the owners from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the owners of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<List<String>> getOwnersAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return Futures.map(getBotAsync(id), info -> new ArrayList<>(info.getOwners()));
+    }
+    
+    /**
+     * Asynchronously gets the prefix of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getPrefix(Long) getPrefix(Long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the prefix from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the prefix of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getPrefixAsync(@Nonnull Long id){
+        return getPrefixAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the prefix of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getPrefix(String) getPrefix(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the prefix from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the prefix of the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getPrefixAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return Futures.map(getBotAsync(id), BotInfo::getPrefix);
+    }
+    
+    /**
+     * Asynchronously gets the server count of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getServerCount(Long) getServerCount(Long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the server count from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the server count for the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<Integer> getServerCountAsync(@Nonnull Long id){
+        return getServerCountAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the server count of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getServerCount(String) getServerCount(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the server count from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the server count for the bot.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<Integer> getServerCountAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return Futures.map(getBotAsync(id), BotInfo::getServerCount);
+    }
+    
+    /**
+     * Asynchronously gets the support link (i.e. Discord invite) of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getSupportLink(Long) getSupportLink(Long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the support link from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the support link.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getSupportLinkAsync(@Nonnull Long id){
+        return getSupportLinkAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the support link (i.e. Discord invite) of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getSupportLink(String) getSupportLink(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the support link from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the support link.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getSupportLinkAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return Futures.map(getBotAsync(id), BotInfo::getSupportLink);
+    }
+    
+    /**
+     * Asynchronously gets the website of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getWebsite(Long) getWebsite(Long)}.
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the website from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the bot's website.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getWebsiteAsync(@Nonnull Long id){
+        return getWebsiteAsync(String.valueOf(id));
+    }
+    
+    /**
+     * Asynchronously gets the website of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getWebsite(String) getWebsite(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id of the bot to get the website from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the bot's website.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getWebsiteAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return Futures.map(getBotAsync(id), BotInfo::getWebsite);
+    }
+    
+    private void checkBulk(Collection<String> ids, int maxConcurrency){
+        CheckUtil.condition(maxConcurrency < 1, "Max concurrency may not be less than 1.");
+        for(String id : ids)
+            CheckUtil.notEmpty(id, "id");
     }
 }
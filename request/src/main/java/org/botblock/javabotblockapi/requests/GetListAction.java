@@ -18,15 +18,19 @@
 
 package org.botblock.javabotblockapi.requests;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.botblock.javabotblockapi.core.Info;
 import org.botblock.javabotblockapi.core.Site;
 import org.botblock.javabotblockapi.core.CheckUtil;
 import org.botblock.javabotblockapi.requests.handler.RequestHandler;
+import org.botblock.javabotblockapi.requests.objects.ListInfo;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class used to perform GET actions on the <a href="https://botblock.org/api/docs#lists" target="_blank">{@code /api/lists}</a>
@@ -34,6 +38,20 @@ import javax.annotation.Nullable;
  *
  * <p>GET requests are cached for 2 minutes unless disabled through {@link #GetListAction(boolean, String) GetListAction(true, String)}
  * or {@link #GetListAction(boolean, String, String) GetListAction(true, String, String)}.
+ * <br>Use {@link #GetListAction(CacheSettings, String, String) GetListAction(CacheSettings, String, String)} to configure the
+ * cache instead, e.g. to serve expired responses while they are refreshed in the background.
+ * <br>The cache keeps separate entries for all lists, the filtered lists and each single list. Information about a
+ * single list is taken from already cached information about all lists whenever possible, so reading multiple lists
+ * after {@link #getLists(String) getLists(String)} does not perform any further requests.
+ * <br>The {@code id} provided to the methods is no longer used for the cache and only kept for compatibility.
+ *
+ * <p>With {@link org.botblock.javabotblockapi.requests.CacheSettings.Builder#setListSnapshot(java.nio.file.Path, long, java.util.concurrent.TimeUnit)
+ * a list snapshot} are the cached lists also kept on disk. A new GetListAction answers its first calls from the snapshot
+ * and refreshes the lists in the background.
+ *
+ * <p>{@link #getListInfo(String, String) getListInfo(String, String)} and {@link #getListInfos(String) getListInfos(String)}
+ * return the information as typed {@link org.botblock.javabotblockapi.requests.objects.ListInfo ListInfo}, which is only
+ * parsed once per response and cached with it. The other getters of this class are based on it, except for the features.
  *
  * @since 5.0.0
  */
@@ -116,6 +134,65 @@ public class GetListAction{
         this.REQUEST_HANDLER = new RequestHandler(userAgent.replace("{id}", id));
     }
     
+    /**
+     * Constructor to get an instance of GetListAction.
+     * <br>This constructor allows you to configure the internal caching, by providing
+     * {@link org.botblock.javabotblockapi.requests.CacheSettings CacheSettings} as the first argument.
+     *
+     * <p>Using this constructor will set the following default values ({@code {id}} will be replaced with the provided ID):
+     * <br><ul>
+     *     <li>User-Agent: {@code "JavaBotBlockAPI-0000/API_VERSION (Unknown; +https://jbba.dev) DBots/{id}"}</li>
+     * </ul>
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * @param cacheSettings
+     *        The {@link org.botblock.javabotblockapi.requests.CacheSettings CacheSettings} to use for the cache.
+     * @param id
+     *        The id of the bot. This is required for the internal User-Agent.
+     *
+     * @since 6.8.0
+     */
+    public GetListAction(@Nonnull CacheSettings cacheSettings, @Nonnull String id){
+        this(cacheSettings, String.format(
+                "JavaBotBlockAPI-0000/%s (Unknown; +https://jbba.dev) DBots/{id}",
+                Info.VERSION
+        ), id);
+    }
+    
+    /**
+     * Constructor to get an instance of GetListAction.
+     * <br>This constructor allows you to configure the internal caching, by providing
+     * {@link org.botblock.javabotblockapi.requests.CacheSettings CacheSettings} as the first argument
+     * and also set a own User-Agent for the requests by providing any String as the second argument.
+     *
+     * <p>Note that you can provide {@code {id}} inside the userAgent to get it replaced with the provided id.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided userAgent or id is empty.</li>
+     * </ul>
+     *
+     * @param cacheSettings
+     *        The {@link org.botblock.javabotblockapi.requests.CacheSettings CacheSettings} to use for the cache.
+     * @param userAgent
+     *        The Name that should be used as User-Agent.
+     * @param id
+     *        The id of the bot. This is required for the internal User-Agent.
+     *
+     * @since 6.8.0
+     */
+    public GetListAction(@Nonnull CacheSettings cacheSettings, @Nonnull String userAgent, @Nonnull String id){
+        CheckUtil.notEmpty(userAgent, "UserAgent");
+        CheckUtil.notEmpty(id, "ID");
+        
+        this.disableCache = !cacheSettings.isEnabled();
+        this.REQUEST_HANDLER = new RequestHandler(userAgent.replace("{id}", id), cacheSettings);
+    }
+    
     /**
      * Gets the name of the specified field. The returned String can either be a URL or a field name.
      *
@@ -145,9 +222,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString(field.getApiField());
+        return info.getApiField(field);
     }
     
     /**
@@ -178,9 +257,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString(field.getApiField());
+        return info.getApiField(field);
     }
     
     /**
@@ -210,9 +291,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("bot_widget");
+        return info.getBotWidgetUrl();
     }
     
     /**
@@ -241,9 +324,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("bot_widget");
+        return info.getBotWidgetUrl();
     }
     
     /**
@@ -273,9 +358,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("description");
+        return info.getDescription();
     }
     
     /**
@@ -304,9 +391,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("description");
+        return info.getDescription();
     }
     
     /**
@@ -336,9 +425,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("discord");
+        return info.getDiscordInvite();
     }
     
     /**
@@ -367,9 +458,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("discord");
+        return info.getDiscordInvite();
     }
     
     /**
@@ -458,7 +551,7 @@ public class GetListAction{
     public JSONObject getFilteredLists(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        return REQUEST_HANDLER.performGetList(id, disableCache, true);
+        return REQUEST_HANDLER.performGetList(null, disableCache, true);
     }
     
     /**
@@ -488,9 +581,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("icon");
+        return info.getIcon();
     }
     
     /**
@@ -519,9 +614,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("icon");
+        return info.getIcon();
     }
     
     /**
@@ -551,9 +648,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("id");
+        return info.getId();
     }
     
     /**
@@ -582,9 +681,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("id");
+        return info.getId();
     }
     
     /**
@@ -613,9 +714,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("language");
+        return info.getLanguage();
     }
     
     /**
@@ -643,9 +746,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("language");
+        return info.getLanguage();
     }
     
     /**
@@ -674,7 +779,7 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        return REQUEST_HANDLER.performGetList(id, site.getName(), disableCache);
+        return REQUEST_HANDLER.performGetList(site.getName(), disableCache, false);
     }
     
     /**
@@ -702,7 +807,7 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        return REQUEST_HANDLER.performGetList(id, site, disableCache);
+        return REQUEST_HANDLER.performGetList(site, disableCache, false);
     }
     
     /**
@@ -727,7 +832,138 @@ public class GetListAction{
     public JSONObject getLists(@Nonnull String id){
         CheckUtil.notEmpty(id, "id");
         
-        return REQUEST_HANDLER.performGetList(id, disableCache, false);
+        return REQUEST_HANDLER.performGetList(null, disableCache, false);
+    }
+    
+    /**
+     * Gets the information of a specific bot list as {@link org.botblock.javabotblockapi.requests.objects.ListInfo ListInfo}.
+     * <br>The response is only parsed once and the ListInfo is cached together with it, making repeated calls cheap.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>Following Exceptions can be thrown from the HTTP request:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>This method may also return {@code null} if the request wasn't successful.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.ListInfo ListInfo} containing information about the specified bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public ListInfo getListInfo(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return REQUEST_HANDLER.performGetListInfo(site.getName(), disableCache);
+    }
+    
+    /**
+     * Gets the information of a specific bot list as {@link org.botblock.javabotblockapi.requests.objects.ListInfo ListInfo}.
+     * <br>The response is only parsed once and the ListInfo is cached together with it, making repeated calls cheap.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>Following Exceptions can be thrown from the HTTP request:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>This method may also return {@code null} if the request wasn't successful.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.ListInfo ListInfo} containing information about the specified bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public ListInfo getListInfo(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return REQUEST_HANDLER.performGetListInfo(site, disableCache);
+    }
+    
+    /**
+     * Gets the information about all the currently listed bot lists as {@link org.botblock.javabotblockapi.requests.objects.ListInfo ListInfo}, mapped by the id of the bot list.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>Following Exceptions can be thrown from the HTTP request:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>This method may also return {@code null} if the request wasn't successful.
+     *
+     * @param  id
+     *         The id used for the cache.
+     *
+     * @return Possibly-null, unmodifiable Map containing information about all the different bot lists.
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public Map<String, ListInfo> getListInfos(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return REQUEST_HANDLER.performGetListInfos(disableCache, false);
+    }
+    
+    /**
+     * Gets the information about all the currently listed bot lists as {@link org.botblock.javabotblockapi.requests.objects.ListInfo ListInfo}, mapped by the id of the bot list.
+     * <br>The filtered version only contains the {@link #getApiField(String, Site, ApiField) API fields} of the bot lists,
+     * meaning that the other values of each ListInfo are {@code null}, {@code 0} or {@code false}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>Following Exceptions can be thrown from the HTTP request:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>This method may also return {@code null} if the request wasn't successful.
+     *
+     * @param  id
+     *         The id used for the cache.
+     *
+     * @return Possibly-null, unmodifiable Map containing information about the filtered bot lists.
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public Map<String, ListInfo> getFilteredListInfos(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return REQUEST_HANDLER.performGetListInfos(disableCache, true);
     }
     
     /**
@@ -756,9 +992,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("name");
+        return info.getName();
     }
     
     /**
@@ -786,9 +1024,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("name");
+        return info.getName();
     }
     
     /**
@@ -819,9 +1059,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("owners");
+        return info.getOwners();
     }
     
     /**
@@ -851,9 +1093,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("owners");
+        return info.getOwners();
     }
     
     /**
@@ -882,9 +1126,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getInt("added");
+        return info.getTimeAdded();
     }
     
     /**
@@ -912,9 +1158,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getInt("added");
+        return info.getTimeAdded();
     }
     
     /**
@@ -943,9 +1191,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("url");
+        return info.getUrl();
     }
     
     /**
@@ -973,9 +1223,11 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        if(info == null)
+            return null;
         
-        return json.getString("url");
+        return info.getUrl();
     }
     
     /**
@@ -1005,9 +1257,9 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
         
-        return json.getInt("defunct") == 1;
+        return info != null && info.isDefunct();
     }
     
     /**
@@ -1036,9 +1288,9 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
         
-        return json.getInt("defunct") == 1;
+        return info != null && info.isDefunct();
     }
     
     /**
@@ -1067,9 +1319,9 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "name");
         CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
         
-        return json.getInt("discord_only") == 1;
+        return info != null && info.isDiscordOnly();
     }
     
     /**
@@ -1097,9 +1349,1341 @@ public class GetListAction{
         CheckUtil.notEmpty(id, "id");
         CheckUtil.notEmpty(site, "site");
         
-        JSONObject json = getList(id, site);
+        ListInfo info = getListInfo(id, site);
+        
+        return info != null && info.isDiscordOnly();
+    }
+    
+    /**
+     * Gets the statistics of the cache used for the lists.
+     * <br>The statistics are only recorded when enabled through
+     * {@link org.botblock.javabotblockapi.requests.CacheSettings.Builder#setRecordStats(boolean) CacheSettings.Builder.setRecordStats(true)}.
+     * Otherwise are all values of the returned statistics 0.
+     *
+     * @return {@link com.github.benmanes.caffeine.cache.stats.CacheStats CacheStats} of the cache.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CacheStats getCacheStats(){
+        return REQUEST_HANDLER.getListCacheStats();
+    }
+    
+    /**
+     * Removes all cached responses, so that the next call performs a new request.
+     * <br>This is the only way to refresh the cache when it was configured through
+     * {@link org.botblock.javabotblockapi.requests.CacheSettings.Builder#setNeverExpire() CacheSettings.Builder.setNeverExpire()}.
+     *
+     * @since  6.8.0
+     */
+    public void invalidateCache(){
+        REQUEST_HANDLER.invalidateCaches();
+    }
+    
+    /**
+     * Sets how GET requests are handled while the BotBlock API rate limits them. Default is
+     * {@link org.botblock.javabotblockapi.requests.RateLimitMode#FAIL_FAST RateLimitMode.FAIL_FAST}.
+     * <br>Once a request got rate limited are further requests towards the same route not sent to the API until the
+     * delay provided by it passed. Depending on the mode do they either fail right away, wait or get queued.
+     *
+     * @param  rateLimitMode
+     *         The {@link org.botblock.javabotblockapi.requests.RateLimitMode RateLimitMode} to use.
+     *
+     * @since  6.8.0
+     */
+    public void setRateLimitMode(@Nonnull RateLimitMode rateLimitMode){
+        REQUEST_HANDLER.setRateLimitMode(rateLimitMode);
+    }
+    
+    /**
+     * Sets the base URL the requests are sent to. Default is {@code https://botblock.org/api/}.
+     * <br>This is meant for testing against a local instance of the BotBlock API, like the one of the test-support
+     * module, which receives the requests instead of BotBlock itself.
+     * <br>Cached responses of the previous base URL are discarded.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided base URL is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided base URL doesn't end with a {@code /}.</li>
+     * </ul>
+     *
+     * @param  baseUrl
+     *         The base URL to use, e.g. {@code http://localhost:8080/api/}.
+     *
+     * @since  6.8.0
+     */
+    public void setBaseUrl(@Nonnull String baseUrl){
+        REQUEST_HANDLER.setBaseUrl(baseUrl);
+    }
+    
+    /**
+     * Asynchronously gets the name of the specified field. The returned String can either be a URL or a field name.
+     * <br>This is the non-blocking counterpart of {@link #getApiField(String, Site, ApiField) getApiField(String, Site, ApiField)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>Cancelling the CompletableFuture also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     * @param  field
+     *         The {@link org.botblock.javabotblockapi.requests.GetListAction.ApiField API field} to get the value from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with either a URL or API field name.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getApiFieldAsync(@Nonnull String id, @Nonnull Site site, @Nonnull ApiField field){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), info -> info.getApiField(field));
+    }
+    
+    /**
+     * Asynchronously gets the name of the specified field. The returned String can either be a URL or a field name.
+     * <br>This is the non-blocking counterpart of {@link #getApiField(String, String, ApiField) getApiField(String, String, ApiField)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>Cancelling the CompletableFuture also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     * @param  field
+     *         The {@link org.botblock.javabotblockapi.requests.GetListAction.ApiField API field} to get the value from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with either a URL or API field name.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getApiFieldAsync(@Nonnull String id, @Nonnull String site, @Nonnull ApiField field){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), info -> info.getApiField(field));
+    }
+    
+    /**
+     * Asynchronously gets the URL used to display a widget (custom image) of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getBotWidgetUrl(String, Site) getBotWidgetUrl(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the URL used to display a widget.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getBotWidgetUrlAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getBotWidgetUrl);
+    }
+    
+    /**
+     * Asynchronously gets the URL used to display a widget (custom image) of the bot.
+     * <br>This is the non-blocking counterpart of {@link #getBotWidgetUrl(String, String) getBotWidgetUrl(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the URL used to display a widget.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getBotWidgetUrlAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getBotWidgetUrl);
+    }
+    
+    /**
+     * Asynchronously gets the description of the bot list.
+     * <br>This is the non-blocking counterpart of {@link #getDescription(String, Site) getDescription(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the description/tag line of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getDescriptionAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getDescription);
+    }
+    
+    /**
+     * Asynchronously gets the description of the bot list.
+     * <br>This is the non-blocking counterpart of {@link #getDescription(String, String) getDescription(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the description/tag line of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getDescriptionAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getDescription);
+    }
+    
+    /**
+     * Asynchronously gets the invite to the Discord of the bot list.
+     * <br>This is the non-blocking counterpart of {@link #getDiscordInvite(String, Site) getDiscordInvite(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the invite to the Discord of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getDiscordInviteAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getDiscordInvite);
+    }
+    
+    /**
+     * Asynchronously gets the invite to the Discord of the bot list.
+     * <br>This is the non-blocking counterpart of {@link #getDiscordInvite(String, String) getDiscordInvite(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the invite to the Discord of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getDiscordInviteAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getDiscordInvite);
+    }
+    
+    /**
+     * Asynchronously gets the features of the bot list.
+     * <br>The listed features can be both positive and negative.
+     * <br>This is the non-blocking counterpart of {@link #getFeatures(String, Site) getFeatures(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the features of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONArray> getFeaturesAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListAsync(id, site), json -> json.getJSONArray("features"));
+    }
+    
+    /**
+     * Asynchronously gets the features of the bot list.
+     * <br>The listed features can be both positive and negative.
+     * <br>This is the non-blocking counterpart of {@link #getFeatures(String, String) getFeatures(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the features of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONArray> getFeaturesAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListAsync(id, site), json -> json.getJSONArray("features"));
+    }
+    
+    /**
+     * Asynchronously gets the filtered information about all the currently listed bot lists.
+     * <br>This is the non-blocking counterpart of {@link #getFilteredLists(String) getFilteredLists(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>Cancelling the CompletableFuture also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the filtered information of the bot lists.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONObject> getFilteredListsAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return REQUEST_HANDLER.performGetListAsync(null, disableCache, true);
+    }
+    
+    /**
+     * Asynchronously gets the URL displaying the current Icon of the bot list.
+     * <br>This is the non-blocking counterpart of {@link #getIcon(String, Site) getIcon(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the Icon-URL of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getIconAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getIcon);
+    }
+    
+    /**
+     * Asynchronously gets the URL displaying the current Icon of the bot list.
+     * <br>This is the non-blocking counterpart of {@link #getIcon(String, String) getIcon(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the Icon-URL of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getIconAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getIcon);
+    }
+    
+    /**
+     * Asynchronously gets the id of the bot list.
+     * <br>The id is used for the <a href="https://botblock.org/api/docs#count" target="_blank">{@code /api/count} endpoint</a>.
+     * <br>This is the non-blocking counterpart of {@link #getId(String, Site) getId(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the id of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getIdAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getId);
+    }
+    
+    /**
+     * Asynchronously gets the id of the bot list.
+     * <br>The id is used for the <a href="https://botblock.org/api/docs#count" target="_blank">{@code /api/count} endpoint</a>.
+     * <br>This is the non-blocking counterpart of {@link #getId(String, String) getId(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the id of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getIdAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getId);
+    }
+    
+    /**
+     * Asynchronously gets the primary language of the bot list.
+     * <br>This is the non-blocking counterpart of {@link #getLanguage(String, Site) getLanguage(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the primarily used language of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getLanguageAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getLanguage);
+    }
+    
+    /**
+     * Asynchronously gets the primary language of the bot list.
+     * <br>This is the non-blocking counterpart of {@link #getLanguage(String, String) getLanguage(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the primarily used language of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getLanguageAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getLanguage);
+    }
+    
+    /**
+     * Asynchronously gets the information of a specific bot list.
+     * <br>This is the non-blocking counterpart of {@link #getList(String, Site) getList(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>Cancelling the CompletableFuture also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with information about the specified bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONObject> getListAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return REQUEST_HANDLER.performGetListAsync(site.getName(), disableCache, false);
+    }
+    
+    /**
+     * Asynchronously gets the information of a specific bot list.
+     * <br>This is the non-blocking counterpart of {@link #getList(String, String) getList(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>Cancelling the CompletableFuture also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with information about the specified bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONObject> getListAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return REQUEST_HANDLER.performGetListAsync(site, disableCache, false);
+    }
+    
+    /**
+     * Asynchronously gets the information about all the currently listed bot lists.
+     * <br>This is the non-blocking counterpart of {@link #getLists(String) getLists(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>Cancelling the CompletableFuture also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with information about all the different bot lists.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<JSONObject> getListsAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return REQUEST_HANDLER.performGetListAsync(null, disableCache, false);
+    }
+    
+    /**
+     * Asynchronously gets the information of a specific bot list as {@link org.botblock.javabotblockapi.requests.objects.ListInfo ListInfo}.
+     * <br>This is the non-blocking counterpart of {@link #getListInfo(String, Site) getListInfo(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with information about the specified bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<ListInfo> getListInfoAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return REQUEST_HANDLER.performGetListInfoAsync(site.getName(), disableCache);
+    }
+    
+    /**
+     * Asynchronously gets the information of a specific bot list as {@link org.botblock.javabotblockapi.requests.objects.ListInfo ListInfo}.
+     * <br>This is the non-blocking counterpart of {@link #getListInfo(String, String) getListInfo(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with information about the specified bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<ListInfo> getListInfoAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return REQUEST_HANDLER.performGetListInfoAsync(site, disableCache);
+    }
+    
+    /**
+     * Asynchronously gets the information about all the currently listed bot lists as {@link org.botblock.javabotblockapi.requests.objects.ListInfo ListInfo}.
+     * <br>This is the non-blocking counterpart of {@link #getListInfos(String) getListInfos(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with information about all the different bot lists.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<Map<String, ListInfo>> getListInfosAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return REQUEST_HANDLER.performGetListInfosAsync(disableCache, false);
+    }
+    
+    /**
+     * Asynchronously gets the information about the filtered bot lists as {@link org.botblock.javabotblockapi.requests.objects.ListInfo ListInfo}.
+     * <br>This is the non-blocking counterpart of {@link #getFilteredListInfos(String) getFilteredListInfos(String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with information about the filtered bot lists.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<Map<String, ListInfo>> getFilteredListInfosAsync(@Nonnull String id){
+        CheckUtil.notEmpty(id, "id");
+        
+        return REQUEST_HANDLER.performGetListInfosAsync(disableCache, true);
+    }
+    
+    /**
+     * Asynchronously gets the name of the bot list.
+     * <br>This is the non-blocking counterpart of {@link #getName(String, Site) getName(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the name of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getNameAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getName);
+    }
+    
+    /**
+     * Asynchronously gets the name of the bot list.
+     * <br>This is the non-blocking counterpart of {@link #getName(String, String) getName(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the name of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getNameAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getName);
+    }
+    
+    /**
+     * Asynchronously gets the owners of a bot list.
+     * <br>The pattern in which the owners are listed is {@code <name#discrim> (<id>), <name#discrim> (<id>), ...}
+     * <br>This is the non-blocking counterpart of {@link #getOwners(String, Site) getOwners(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the owners of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getOwnersAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getOwners);
+    }
+    
+    /**
+     * Asynchronously gets the owners of a bot list.
+     * <br>The pattern in which the owners are listed is {@code <name#discrim> (<id>), <name#discrim> (<id>), ...}
+     * <br>This is the non-blocking counterpart of {@link #getOwners(String, String) getOwners(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the owners of the bot list.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getOwnersAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getOwners);
+    }
+    
+    /**
+     * Asynchronously gets the UNIX timestamp of when the bot list was added to BotBlock as Integer.
+     * <br>This is the non-blocking counterpart of {@link #getTimeAdded(String, Site) getTimeAdded(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the UNIX time at which the bot list was added to BotBlock.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<Integer> getTimeAddedAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getTimeAdded);
+    }
+    
+    /**
+     * Asynchronously gets the UNIX timestamp of when the bot list was added to BotBlock as Integer.
+     * <br>This is the non-blocking counterpart of {@link #getTimeAdded(String, String) getTimeAdded(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the UNIX time at which the bot list was added to BotBlock.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<Integer> getTimeAddedAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getTimeAdded);
+    }
+    
+    /**
+     * Asynchronously gets the URL for the bot list's website.
+     * <br>This is the non-blocking counterpart of {@link #getUrl(String, Site) getUrl(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the URL to the bot list website.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getUrlAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getUrl);
+    }
+    
+    /**
+     * Asynchronously gets the URL for the bot list's website.
+     * <br>This is the non-blocking counterpart of {@link #getUrl(String, String) getUrl(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with the URL to the bot list website.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<String> getUrlAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::getUrl);
+    }
+    
+    /**
+     * Asynchronously returns if the bot list is defunct.
+     * <br>A defunct bot list is not displayed on the main site and is also excluded from the POST api.
+     * <br>This is the non-blocking counterpart of {@link #isDefunct(String, Site) isDefunct(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with {@code true} if the bot list is defunct, {@code false} otherwise.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<Boolean> isDefunctAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::isDefunct);
+    }
+    
+    /**
+     * Asynchronously returns if the bot list is defunct.
+     * <br>A defunct bot list is not displayed on the main site and is also excluded from the POST api.
+     * <br>This is the non-blocking counterpart of {@link #isDefunct(String, String) isDefunct(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with {@code true} if the bot list is defunct, {@code false} otherwise.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<Boolean> isDefunctAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::isDefunct);
+    }
+    
+    /**
+     * Asynchronously returns if the bot list is only for Discord bots.
+     * <br>This is the non-blocking counterpart of {@link #isDiscordOnly(String, Site) isDiscordOnly(String, Site)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided Site doesn't support GET requests.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The {@link org.botblock.javabotblockapi.core.Site site} to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with {@code true} if the list is only for Discord bots, {@code false} otherwise.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<Boolean> isDiscordOnlyAsync(@Nonnull String id, @Nonnull Site site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.condition(!site.supportsGet(), site.getName() + " does not support GET requests!");
+        
+        return Futures.map(getListInfoAsync(id, site), ListInfo::isDiscordOnly);
+    }
+    
+    /**
+     * Asynchronously returns if the bot list is only for Discord bots.
+     * <br>This is the non-blocking counterpart of {@link #isDiscordOnly(String, String) isDiscordOnly(String, String)}.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id or site is empty.</li>
+     * </ul>
+     *
+     * <p>The returned CompletableFuture may complete exceptionally with the following Exceptions:
+     * <ul>
+     *     <li>{@link java.io.IOException IOException} - When the request was non-successful.</li>
+     *     <li>{@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException} - When the request got rate limited.</li>
+     * </ul>
+     *
+     * <p>The CompletableFuture completes with {@code null} if the response was empty.
+     * <br>Cancelling it also cancels the underlying HTTP request.
+     *
+     * @param  id
+     *         The id used for the cache.
+     * @param  site
+     *         The id of the bot list to get information from.
+     *
+     * @return {@link java.util.concurrent.CompletableFuture CompletableFuture} completing with {@code true} if the list is only for Discord bots, {@code false} otherwise.
+     *
+     * @since  6.8.0
+     */
+    @Nonnull
+    public CompletableFuture<Boolean> isDiscordOnlyAsync(@Nonnull String id, @Nonnull String site){
+        CheckUtil.notEmpty(id, "id");
+        CheckUtil.notEmpty(site, "site");
         
-        return json.getInt("discord_only") == 1;
+        return Futures.map(getListInfoAsync(id, site), ListInfo::isDiscordOnly);
     }
     
     /**
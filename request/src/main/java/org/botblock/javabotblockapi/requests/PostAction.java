@@ -22,16 +22,18 @@ import org.botblock.javabotblockapi.core.BotBlockAPI;
 import org.botblock.javabotblockapi.core.Info;
 import org.botblock.javabotblockapi.core.exceptions.RateLimitedException;
 import org.botblock.javabotblockapi.core.CheckUtil;
+import org.botblock.javabotblockapi.requests.handler.PostPayload;
+import org.botblock.javabotblockapi.requests.handler.PostScheduler;
 import org.botblock.javabotblockapi.requests.handler.RequestHandler;
-import org.json.JSONObject;
+import org.botblock.javabotblockapi.requests.objects.PostResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Class used to perform POST requests towards the <a href="https://botblock.org/api/docs#count" target="_blank">/api/count</a> 
@@ -45,7 +47,7 @@ public class PostAction{
     private final Logger LOG = LoggerFactory.getLogger("JavaBotBlockAPI - PostAction");
     
     private final RequestHandler requestHandler;
-    private final ScheduledExecutorService scheduler;
+    private final PostScheduler scheduler;
     
     /**
      * Constructor to get an instance of PostAction.
@@ -94,16 +96,91 @@ public class PostAction{
         this.scheduler = requestHandler.getScheduler();
     }
     
+    /**
+     * Sets how POST requests are handled while the BotBlock API rate limits them. Default is
+     * {@link org.botblock.javabotblockapi.requests.RateLimitMode#FAIL_FAST RateLimitMode.FAIL_FAST}.
+     * <br>Once a request got rate limited are further requests towards the same route not sent to the API until the
+     * delay provided by it passed. Depending on the mode do they either fail right away, wait or get queued.
+     *
+     * @param  rateLimitMode
+     *         The {@link org.botblock.javabotblockapi.requests.RateLimitMode RateLimitMode} to use.
+     *
+     * @since  6.8.0
+     */
+    public void setRateLimitMode(@Nonnull RateLimitMode rateLimitMode){
+        requestHandler.setRateLimitMode(rateLimitMode);
+    }
+    
+    /**
+     * Sets the base URL the requests are sent to. Default is {@code https://botblock.org/api/}.
+     * <br>This is meant for testing against a local instance of the BotBlock API, like the one of the test-support
+     * module, which receives the requests instead of BotBlock itself.
+     * <br>Payloads skipped because they didn't change are posted again to the new base URL.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided base URL is empty.</li>
+     *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided base URL doesn't end with a {@code /}.</li>
+     * </ul>
+     *
+     * @param  baseUrl
+     *         The base URL to use, e.g. {@code http://localhost:8080/api/}.
+     *
+     * @since  6.8.0
+     */
+    public void setBaseUrl(@Nonnull String baseUrl){
+        requestHandler.setBaseUrl(baseUrl);
+    }
+    
+    /**
+     * Sets the {@link org.botblock.javabotblockapi.requests.TimeoutSettings TimeoutSettings} used for POST requests.
+     * <br>By default are timeouts derived from the latency of previous posts, see
+     * {@link org.botblock.javabotblockapi.requests.TimeoutSettings#getDefault() TimeoutSettings.getDefault()}.
+     *
+     * @param  timeoutSettings
+     *         The {@link org.botblock.javabotblockapi.requests.TimeoutSettings TimeoutSettings} to use.
+     *
+     * @since  6.8.0
+     */
+    public void setTimeoutSettings(@Nonnull TimeoutSettings timeoutSettings){
+        requestHandler.setTimeoutSettings(timeoutSettings);
+    }
+    
+    /**
+     * Returns the result of the last post performed by an auto-post task of this PostAction.
+     * <br>Skipped posts don't change the last result, while rate limited posts are included.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult} of the last auto-post.
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public PostResult getLastResult(){
+        return requestHandler.getLastResult();
+    }
+    
+    /**
+     * Sets a listener that receives the result of every post performed by an auto-post task of this PostAction,
+     * including rate limited posts.
+     * <br>The listener is called on the thread of the auto-post task. Exceptions thrown by it are caught and logged.
+     *
+     * @param  resultListener
+     *         The listener to call with each {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult},
+     *         or null to remove the current one.
+     *
+     * @since  6.8.0
+     */
+    public void setResultListener(@Nullable Consumer<PostResult> resultListener){
+        requestHandler.setResultListener(resultListener);
+    }
+    
     /**
      * Disables the automatic posting of Stats.
-     * <br>This essentially just performs a {@link java.util.concurrent.ScheduledExecutorService#shutdown() ScheduledExecutorService.shutdown()}
-     * by calling the {@link #disableAutoPost(BotBlockAPI) disableAutoPost(null)} method.
+     * <br>This cancels all auto-post tasks of this PostAction by calling the {@link #disableAutoPost(BotBlockAPI) disableAutoPost(null)} method.
      *
      * <p>Note that using this method will NOT make the scheduler wait for previously scheduled tasks to complete.
      * <br>If you want to wait for the tasks to complete use {@link #disableAutoPost(BotBlockAPI) disableAutoPost(BotBlockAPI)} or
      * {@link #disableAutoPost(long, TimeUnit) disableAutoPost(long, TimeUnit)} instead.
-     * 
-     * @see java.util.concurrent.ScheduledExecutorService#shutdown()
      */
     public void disableAutoPost(){
         disableAutoPost(null);
@@ -114,8 +191,7 @@ public class PostAction{
      * <br>Unlike {@link #disableAutoPost() disableAutoPost()} can you make the scheduler wait for all scheduled tasks to 
      * finish, or to time out after n minutes by providing the {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlock instance}.
      * 
-     * <p>Passing null as argument will just perform a {@link java.util.concurrent.ScheduledExecutorService#shutdown() ScheduledExecutorService.shutdown()}
-     * similar to what the disableAutoPost() method does.
+     * <p>Passing null as argument will just cancel the tasks similar to what the disableAutoPost() method does.
      * 
      * <p>If you want to use a different delay than what you've set in the BotBlockAPI instance, can you use 
      * {@link #disableAutoPost(long, TimeUnit) disableAutoPost(long, TimeUnit)} instead.
@@ -123,7 +199,7 @@ public class PostAction{
      * <p>This method may throw a {@link java.lang.InterruptedException InterruptedException} in the terminal.
      * 
      * @param botBlockAPI
-     *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} or null to just perform a shutdown.
+     *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} or null to just cancel the tasks.
      * 
      * @since 6.0.0
      */
@@ -133,7 +209,7 @@ public class PostAction{
             return;
         }
         
-        scheduler.shutdown();
+        scheduler.cancel();
     }
     
     /**
@@ -159,7 +235,7 @@ public class PostAction{
         CheckUtil.condition(time <= 0, "time may not be less or equal to 0!");
         
         try{
-            scheduler.shutdown();
+            scheduler.cancel();
             if(!scheduler.awaitTermination(time, timeUnit))
                 LOG.warn("Scheduler couldn't properly wait for termination.");
         }catch(InterruptedException ex){
@@ -168,8 +244,7 @@ public class PostAction{
     }
     
     /**
-     * Starts a {@link java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate(Runnable, long, long, TimeUnit) scheduleAtFixedRate}
-     * task, which will post the provided guild count to the provided bot lists every n minutes.
+     * Starts a task at a fixed rate, which will post the provided guild count to the provided bot lists every n minutes.
      *
      * <p>If the post can't be performed - either by getting a {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException}
      * or by getting an {@link java.io.IOException IOException} - will the exception be catched and the stacktrace printed.
@@ -178,6 +253,11 @@ public class PostAction{
      * <p>The scheduler will wait an initial delay of 1 minute and then performs a task every n minutes, where n is the
      * time set in {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateDelay(Integer) BotBlockAPI.Builder.setUpdateDelay(Integer)}
      * (default is 30 minutes).
+     * <br>Each post may be delayed by a random time up to the jitter set in
+     * {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateJitter(long, TimeUnit) BotBlockAPI.Builder.setUpdateJitter(long, TimeUnit)}.
+     *
+     * <p>When {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setSkipUnchanged(boolean) skipping unchanged posts}
+     * is enabled, will a post be skipped if its payload didn't change since the last successful post.
      *
      * @param botId
      *        The ID of the bot as Long.
@@ -187,18 +267,17 @@ public class PostAction{
      *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
      */
     public void enableAutoPost(@Nonnull Long botId, int guilds, @Nonnull BotBlockAPI botBlockAPI){
-        scheduler.scheduleAtFixedRate(() -> {
+        scheduler.schedule(() -> {
             try{
-                postGuilds(botId, guilds, botBlockAPI);
+                requestHandler.performAutoPOST(getPayload(String.valueOf(botId), guilds, botBlockAPI), botBlockAPI);
             }catch(IOException | RateLimitedException ex){
                 LOG.warn("Got an exception while performing a auto-post task!", ex);
             }
-        }, botBlockAPI.getUpdateDelay(), botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES);
+        }, botBlockAPI.getUpdateDelay(), botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES, botBlockAPI.getUpdateJitter());
     }
     
     /**
-     * Starts a {@link java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate(Runnable, long, long, TimeUnit) scheduleAtFixedRate}
-     * task, which will post the provided guild count to the provided bot lists every n minutes.
+     * Starts a task at a fixed rate, which will post the provided guild count to the provided bot lists every n minutes.
      *
      * <p>If the post can't be performed - either by getting a {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RatelimitedException}
      * or by getting an {@link java.io.IOException IOException} - will the exception be catched and the stacktrace printed.
@@ -207,6 +286,11 @@ public class PostAction{
      * <p>The scheduler will wait an initial delay of 1 minute and then performs a task every n minutes, where n is the
      * time set in {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateDelay(Integer) BotBlockAPI.Builder.setUpdateDelay(Integer)}
      * (default is 30 minutes).
+     * <br>Each post may be delayed by a random time up to the jitter set in
+     * {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setUpdateJitter(long, TimeUnit) BotBlockAPI.Builder.setUpdateJitter(long, TimeUnit)}.
+     *
+     * <p>When {@link org.botblock.javabotblockapi.core.BotBlockAPI.Builder#setSkipUnchanged(boolean) skipping unchanged posts}
+     * is enabled, will a post be skipped if its payload didn't change since the last successful post.
      *
      * @param botId
      *        The ID of the bot as String.
@@ -216,18 +300,20 @@ public class PostAction{
      *        The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance} to use.
      */
     public void enableAutoPost(@Nonnull String botId, int guilds, @Nonnull BotBlockAPI botBlockAPI){
-        scheduler.scheduleAtFixedRate(() -> {
+        scheduler.schedule(() -> {
             try{
-                postGuilds(botId, guilds, botBlockAPI);
+                requestHandler.performAutoPOST(getPayload(String.valueOf(botId), guilds, botBlockAPI), botBlockAPI);
             }catch(IOException | RateLimitedException ex){
                 LOG.warn("Got an exception while performing a auto-post task!", ex);
             }
-        }, botBlockAPI.getUpdateDelay(), botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES);
+        }, botBlockAPI.getUpdateDelay(), botBlockAPI.getUpdateDelay(), TimeUnit.MINUTES, botBlockAPI.getUpdateJitter());
     }
     
     /**
      * Posts the guild count with the provided bot id.
      *
+     * <p>Use {@link #postGuildsWithResult(Long, int, BotBlockAPI) postGuildsWithResult(Long, int, BotBlockAPI)} to receive the result of every site.
+     *
      * @param  botId
      *         The ID of the bot.
      * @param  guilds
@@ -241,7 +327,34 @@ public class PostAction{
      *         When we exceed the rate-limit of the BotBlock API.
      */
     public void postGuilds(@Nonnull Long botId, int guilds, @Nonnull BotBlockAPI botBlockAPI) throws IOException, RateLimitedException{
-        postGuilds(Long.toString(botId), guilds, botBlockAPI);
+        postGuildsWithResult(botId, guilds, botBlockAPI);
+    }
+    
+    /**
+     * Posts the guild count with the provided bot id.
+     *
+     * <p>Unlike {@link #postGuilds(Long, int, BotBlockAPI) postGuilds(Long, int, BotBlockAPI)} does this method return the result of the post.
+     *
+     * @param  botId
+     *         The ID of the bot.
+     * @param  guilds
+     *         The guild count.
+     * @param  botBlockAPI
+     *         The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance}.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult} containing the
+     *         result of every site, or null if the BotBlock API responded with an empty body.
+     *
+     * @throws java.io.IOException
+     *         When the post request couldn't be performed.
+     * @throws org.botblock.javabotblockapi.core.exceptions.RateLimitedException
+     *         When we exceed the rate-limit of the BotBlock API.
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public PostResult postGuildsWithResult(@Nonnull Long botId, int guilds, @Nonnull BotBlockAPI botBlockAPI) throws IOException, RateLimitedException{
+        return postGuildsWithResult(Long.toString(botId), guilds, botBlockAPI);
     }
     
     /**
@@ -252,6 +365,8 @@ public class PostAction{
      *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
      * </ul>
      * 
+     * <p>Use {@link #postGuildsWithResult(String, int, BotBlockAPI) postGuildsWithResult(String, int, BotBlockAPI)} to receive the result of every site.
+     *
      * @param  botId
      *         The ID of the bot.
      * @param  guilds
@@ -265,14 +380,44 @@ public class PostAction{
      *         When we exceed the rate-limit of the BotBlock API.
      */
     public void postGuilds(@Nonnull String botId, int guilds, @Nonnull BotBlockAPI botBlockAPI) throws IOException, RateLimitedException{
+        postGuildsWithResult(botId, guilds, botBlockAPI);
+    }
+    
+    /**
+     * Posts the guild count with the provided bot id.
+     *
+     * <p>Following Exceptions can be thrown from the CheckUtil:
+     * <ul>
+     *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided id is empty.</li>
+     * </ul>
+     * 
+     * <p>Unlike {@link #postGuilds(String, int, BotBlockAPI) postGuilds(String, int, BotBlockAPI)} does this method return the result of the post.
+     *
+     * @param  botId
+     *         The ID of the bot.
+     * @param  guilds
+     *         The guild count.
+     * @param  botBlockAPI
+     *         The {@link org.botblock.javabotblockapi.core.BotBlockAPI BotBlockAPI instance}.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult} containing the
+     *         result of every site, or null if the BotBlock API responded with an empty body.
+     *
+     * @throws java.io.IOException
+     *         When the post request couldn't be performed.
+     * @throws org.botblock.javabotblockapi.core.exceptions.RateLimitedException
+     *         When we exceed the rate-limit of the BotBlock API.
+     *
+     * @since  6.8.0
+     */
+    @Nullable
+    public PostResult postGuildsWithResult(@Nonnull String botId, int guilds, @Nonnull BotBlockAPI botBlockAPI) throws IOException, RateLimitedException{
+        return requestHandler.performPOST(getPayload(botId, guilds, botBlockAPI));
+    }
+    
+    private PostPayload getPayload(String botId, int guilds, BotBlockAPI botBlockAPI){
         CheckUtil.notEmpty(botId, "botId");
         
-        JSONObject json = new JSONObject()
-                .put("server_count", guilds)
-                .put("bot_id", botId);
-        
-        botBlockAPI.getTokens().forEach(json::put);
-        
-        requestHandler.performPOST(json, botBlockAPI.getTokens().size());
+        return requestHandler.getPostTemplate(botId, botBlockAPI).payload(guilds);
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests;
+
+/**
+ * Defines how requests are handled while the targeted route of the BotBlock API is rate limited.
+ * <br>Once a request receives a {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RateLimitedException}
+ * is its route - and for POST requests the bot id - considered rate limited for the
+ * {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException#getDelay() delay} provided by the API.
+ * Following requests towards it are then handled according to the set mode instead of being sent to the API.
+ *
+ * <p>The rate limits are shared by all actions of this Wrapper, while each action uses its own mode.
+ *
+ * @since 6.8.0
+ */
+public enum RateLimitMode{
+    /**
+     * Requests wait until the rate limit is over and are then performed.
+     * <br>Blocking methods block for the remaining delay, while the futures of async methods complete later.
+     */
+    WAIT,
+    
+    /**
+     * Requests fail right away with a {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RateLimitedException}
+     * containing the remaining delay, without being sent to the API.
+     * <br>This is the default mode.
+     */
+    FAIL_FAST,
+    
+    /**
+     * Requests wait until the rate limit is over and are then performed one after another, in the order they were made.
+     * <br>Unlike {@link #WAIT WAIT} does a request only start once the previous one completed, so that a new rate
+     * limit delays the remaining requests instead of making all of them fail.
+     */
+    QUEUE
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests;
+
+import org.botblock.javabotblockapi.core.CheckUtil;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class used to configure the timeouts of POST requests performed by the PostAction classes.
+ *
+ * <p>By default are the timeouts derived from the latency of previous posts: Once enough posts were made is the timeout
+ * set to three times the 99th percentile of the observed latencies, kept between the {@link #getMinTimeout() min timeout}
+ * and the {@link #getMaxTimeoutPerSite() max timeout per site} multiplied with the amount of sites.
+ * <br>This makes posts on a hung connection fail quickly, while posts to many sites that are slow in general can
+ * still complete. Posts that time out count with their timeout as latency, so the timeout grows again if the API got
+ * slower.
+ *
+ * <p>GET requests only wait for the BotBlock API itself and use the {@link #getMaxTimeoutPerSite() max timeout per site}
+ * together with the {@link #getConnectTimeout() connect timeout}.
+ *
+ * <p>Use the {@link org.botblock.javabotblockapi.requests.TimeoutSettings.Builder TimeoutSettings.Builder} class for easy creation.
+ *
+ * @since 6.8.0
+ */
+public class TimeoutSettings{
+    /**
+     * Default time in milliseconds a post may take at least before it times out (5 seconds).
+     */
+    public static final long DEFAULT_MIN_TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+    
+    /**
+     * Default time in milliseconds a post may take at most per site before it times out (10 seconds).
+     */
+    public static final long DEFAULT_MAX_TIMEOUT_PER_SITE = TimeUnit.SECONDS.toMillis(10);
+    
+    /**
+     * Default time in milliseconds connecting to the API may take at most (10 seconds).
+     */
+    public static final long DEFAULT_CONNECT_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+    
+    private final boolean adaptive;
+    private final long minTimeout;
+    private final long maxTimeoutPerSite;
+    private final long connectTimeout;
+    
+    private TimeoutSettings(boolean adaptive, long minTimeout, long maxTimeoutPerSite, long connectTimeout){
+        this.adaptive = adaptive;
+        this.minTimeout = minTimeout;
+        this.maxTimeoutPerSite = maxTimeoutPerSite;
+        this.connectTimeout = connectTimeout;
+    }
+    
+    /**
+     * Returns a new instance with the default settings.
+     * <br>Timeouts are derived from the observed latency and kept between {@link #DEFAULT_MIN_TIMEOUT 5 seconds} and
+     * {@link #DEFAULT_MAX_TIMEOUT_PER_SITE 10 seconds} per site.
+     *
+     * @return TimeoutSettings with the default settings.
+     */
+    public static TimeoutSettings getDefault(){
+        return new Builder().build();
+    }
+    
+    /**
+     * Whether the timeouts are derived from the latency of previous posts.
+     * <br>If not, is always the {@link #getMaxTimeoutPerSite() max timeout per site} multiplied with the amount of
+     * sites used.
+     *
+     * @return {@code true} if timeouts are derived from the latency, {@code false} otherwise.
+     */
+    public boolean isAdaptive(){
+        return adaptive;
+    }
+    
+    /**
+     * The time in milliseconds a post may take at least before it times out.
+     *
+     * @return The min timeout in milliseconds.
+     */
+    public long getMinTimeout(){
+        return minTimeout;
+    }
+    
+    /**
+     * The time in milliseconds a post may take at most per site before it times out.
+     *
+     * @return The max timeout per site in milliseconds.
+     */
+    public long getMaxTimeoutPerSite(){
+        return maxTimeoutPerSite;
+    }
+    
+    /**
+     * The time in milliseconds connecting to the API may take at most.
+     * <br>The connect timeout is never larger than the timeout of the post itself.
+     *
+     * @return The connect timeout in milliseconds.
+     */
+    public long getConnectTimeout(){
+        return connectTimeout;
+    }
+    
+    /**
+     * Builder class to create an instance of {@link org.botblock.javabotblockapi.requests.TimeoutSettings TimeoutSettings}
+     */
+    public static class Builder{
+        private boolean adaptive = true;
+        private long minTimeout = DEFAULT_MIN_TIMEOUT;
+        private long maxTimeoutPerSite = DEFAULT_MAX_TIMEOUT_PER_SITE;
+        private long connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        
+        /**
+         * Empty constructor to get the class.
+         */
+        public Builder(){}
+        
+        /**
+         * Sets whether the timeouts should be derived from the latency of previous posts. Default is {@code true}.
+         *
+         * @param  adaptive
+         *         Whether timeouts should be derived from the latency.
+         *
+         * @return The Builder after the value was set. Useful for chaining.
+         */
+        public Builder setAdaptive(boolean adaptive){
+            this.adaptive = adaptive;
+            return this;
+        }
+        
+        /**
+         * Sets how long a post may take at least before it times out. Default is 5 seconds.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided time is 0 or lower.</li>
+         * </ul>
+         *
+         * @param  time
+         *         The time a post may take at least.
+         * @param  timeUnit
+         *         The {@link java.util.concurrent.TimeUnit TimeUnit} to use.
+         *
+         * @return The Builder after the time was set. Useful for chaining.
+         */
+        public Builder setMinTimeout(long time, @Nonnull TimeUnit timeUnit){
+            CheckUtil.condition(time <= 0, "Min timeout may not be less or equal to 0.");
+            
+            this.minTimeout = timeUnit.toMillis(time);
+            return this;
+        }
+        
+        /**
+         * Sets how long a post may take at most per site before it times out. Default is 10 seconds.
+         * <br>A post to 3 sites may take 30 seconds with the default value.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided time is 0 or lower.</li>
+         * </ul>
+         *
+         * @param  time
+         *         The time a post may take at most per site.
+         * @param  timeUnit
+         *         The {@link java.util.concurrent.TimeUnit TimeUnit} to use.
+         *
+         * @return The Builder after the time was set. Useful for chaining.
+         */
+        public Builder setMaxTimeoutPerSite(long time, @Nonnull TimeUnit timeUnit){
+            CheckUtil.condition(time <= 0, "Max timeout may not be less or equal to 0.");
+            
+            this.maxTimeoutPerSite = timeUnit.toMillis(time);
+            return this;
+        }
+        
+        /**
+         * Sets how long connecting to the API may take at most. Default is 10 seconds.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When the provided time is 0 or lower.</li>
+         * </ul>
+         *
+         * @param  time
+         *         The time connecting may take at most.
+         * @param  timeUnit
+         *         The {@link java.util.concurrent.TimeUnit TimeUnit} to use.
+         *
+         * @return The Builder after the time was set. Useful for chaining.
+         */
+        public Builder setConnectTimeout(long time, @Nonnull TimeUnit timeUnit){
+            CheckUtil.condition(time <= 0, "Connect timeout may not be less or equal to 0.");
+            
+            this.connectTimeout = timeUnit.toMillis(time);
+            return this;
+        }
+        
+        /**
+         * Builds the instance of {@link org.botblock.javabotblockapi.requests.TimeoutSettings TimeoutSettings}.
+         *
+         * @return The built, usable {@link org.botblock.javabotblockapi.requests.TimeoutSettings TimeoutSettings}.
+         */
+        public TimeoutSettings build(){
+            return new TimeoutSettings(adaptive, minTimeout, maxTimeoutPerSite, connectTimeout);
+        }
+    }
+}
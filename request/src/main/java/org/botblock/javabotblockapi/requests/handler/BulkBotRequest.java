@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.botblock.javabotblockapi.core.exceptions.RateLimitedException;
+import org.botblock.javabotblockapi.requests.objects.BotInfo;
+import org.botblock.javabotblockapi.requests.objects.BulkBotInfo;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/*
+ * Fetches the information of multiple bots with at most maxConcurrency requests at once.
+ *
+ * Every worker takes the next id from the queue once its previous request completed. A rate limited id is put back
+ * into the queue and all workers pause for the delay the API provided, before a later attempt is made.
+ * Cancelling the returned future cancels all running requests.
+ */
+final class BulkBotRequest{
+    
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long DEFAULT_RETRY_DELAY = 1000;
+    
+    private final List<String> ids;
+    private final Function<String, CompletableFuture<BotInfo>> fetcher;
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+    private final Map<String, BotInfo> botInfos = new ConcurrentHashMap<>();
+    private final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<BotInfo>> running = ConcurrentHashMap.newKeySet();
+    private final CompletableFuture<BulkBotInfo> result = new CompletableFuture<>();
+    private final AtomicInteger remaining;
+    private long pausedUntil = 0;
+    
+    BulkBotRequest(@Nonnull List<String> ids, @Nonnull Map<String, BotInfo> cached,
+                   @Nonnull Function<String, CompletableFuture<BotInfo>> fetcher){
+        this.ids = ids;
+        this.fetcher = fetcher;
+        this.botInfos.putAll(cached);
+        
+        for(String id : ids){
+            if(!cached.containsKey(id))
+                pending.add(id);
+        }
+        this.remaining = new AtomicInteger(pending.size());
+        
+        result.whenComplete((value, ex) -> {
+            if(result.isCancelled())
+                running.forEach(future -> future.cancel(true));
+        });
+    }
+    
+    CompletableFuture<BulkBotInfo> start(int maxConcurrency){
+        if(remaining.get() == 0){
+            complete();
+            return result;
+        }
+        
+        int workers = Math.min(maxConcurrency, remaining.get());
+        for(int i = 0; i < workers; i++)
+            next();
+        
+        return result;
+    }
+    
+    private void next(){
+        if(result.isDone())
+            return;
+        
+        long wait = getPause();
+        if(wait > 0){
+            CompletableFuture.delayedExecutor(wait, TimeUnit.MILLISECONDS).execute(this::next);
+            return;
+        }
+        
+        String id = pending.poll();
+        if(id == null)
+            return;
+        
+        CompletableFuture<BotInfo> future = fetcher.apply(id);
+        running.add(future);
+        future.whenComplete((info, ex) -> {
+            running.remove(future);
+            handle(id, info, ex);
+            next();
+        });
+    }
+    
+    private void handle(String id, BotInfo info, Throwable ex){
+        if(ex instanceof CompletionException && ex.getCause() != null)
+            ex = ex.getCause();
+        
+        if(ex instanceof RateLimitedException && attempts.merge(id, 1, Integer::sum) < MAX_ATTEMPTS){
+            int delay = ((RateLimitedException)ex).getDelay();
+            pause(delay > 0 ? delay : DEFAULT_RETRY_DELAY);
+            pending.add(id);
+            return;
+        }
+        
+        if(ex != null)
+            failures.put(id, ex);
+        else if(info == null)
+            failures.put(id, new IOException("Received empty Response from BotBlock API for bot " + id));
+        else
+            botInfos.put(id, info);
+        
+        if(remaining.decrementAndGet() == 0)
+            complete();
+    }
+    
+    private synchronized long getPause(){
+        return pausedUntil - System.currentTimeMillis();
+    }
+    
+    private synchronized void pause(long delay){
+        pausedUntil = Math.max(pausedUntil, System.currentTimeMillis() + delay);
+    }
+    
+    // Both maps are built in the order of the requested ids.
+    private void complete(){
+        Map<String, BotInfo> orderedInfos = new LinkedHashMap<>();
+        Map<String, Throwable> orderedFailures = new LinkedHashMap<>();
+        for(String id : ids){
+            if(botInfos.containsKey(id))
+                orderedInfos.put(id, botInfos.get(id));
+            else if(failures.containsKey(id))
+                orderedFailures.put(id, failures.get(id));
+        }
+        
+        result.complete(new BulkBotInfo(orderedInfos, orderedFailures));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.botblock.javabotblockapi.requests.transport.TransportRequest;
+import org.botblock.javabotblockapi.requests.transport.TransportResponse;
+import org.json.JSONObject;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.ref.SoftReference;
+import java.util.function.Function;
+
+/*
+ * A successful GET response together with the validators (ETag and Last-Modified) the API sent for it.
+ * The validators are used to revalidate the response once it expired, which only costs a 304 without a body when
+ * nothing changed.
+ *
+ * The body is parsed and decoded into its typed model (e.g. a BotInfo) once, when the response is received. The parsed
+ * JSON is kept besides the model for the JSON getters, so a cache hit never parses the body again.
+ *
+ * With soft values does the cache store a soft copy, which only references the full response softly. Callers resolve
+ * it before use and treat a collected response like a missing one.
+ */
+final class CachedResponse<T>{
+    
+    private final JSONObject json;
+    private final T model;
+    private final String etag;
+    private final String lastModified;
+    private final int size;
+    private final SoftReference<CachedResponse<T>> softResponse;
+    
+    private CachedResponse(@Nonnull JSONObject json, @Nonnull T model, @Nullable String etag, @Nullable String lastModified, int size){
+        this.json = json;
+        this.model = model;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.size = size;
+        this.softResponse = null;
+    }
+    
+    private CachedResponse(@Nonnull CachedResponse<T> response){
+        this.json = null;
+        this.model = null;
+        this.etag = response.etag;
+        this.lastModified = response.lastModified;
+        this.size = response.size;
+        this.softResponse = new SoftReference<>(response);
+    }
+    
+    static <T> CachedResponse<T> decode(@Nonnull TransportResponse response, @Nonnull Function<JSONObject, T> decoder){
+        return decode(response.getBody(), response.getHeader("ETag"), response.getHeader("Last-Modified"), decoder);
+    }
+    
+    static <T> CachedResponse<T> decode(@Nonnull String body, @Nullable String etag, @Nullable String lastModified,
+                                        @Nonnull Function<JSONObject, T> decoder){
+        JSONObject json = new JSONObject(body);
+        return new CachedResponse<>(json, decoder.apply(json), etag, lastModified, body.length());
+    }
+    
+    // A copy of this response which only references the JSON and model softly.
+    CachedResponse<T> softly(){
+        return softResponse == null ? new CachedResponse<>(this) : this;
+    }
+    
+    // Returns the full response, or null when it only was referenced softly and got collected.
+    @Nullable
+    CachedResponse<T> resolve(){
+        return softResponse == null ? this : softResponse.get();
+    }
+    
+    // The length of the received body, which is also known for a soft copy.
+    int getSize(){
+        return size;
+    }
+    
+    T getModel(){
+        return model;
+    }
+    
+    JSONObject getJson(){
+        return json;
+    }
+    
+    @Nullable
+    String getEtag(){
+        return etag;
+    }
+    
+    @Nullable
+    String getLastModified(){
+        return lastModified;
+    }
+    
+    boolean hasValidators(){
+        return etag != null || lastModified != null;
+    }
+    
+    // Validators of a 304 response replace the stored ones, while the JSON and model stay the same.
+    CachedResponse<T> revalidated(@Nonnull TransportResponse response){
+        String newEtag = response.getHeader("ETag");
+        String newLastModified = response.getHeader("Last-Modified");
+        
+        return new CachedResponse<>(
+                json,
+                model,
+                newEtag == null ? etag : newEtag,
+                newLastModified == null ? lastModified : newLastModified,
+                size
+        );
+    }
+    
+    void addConditionalHeaders(@Nonnull TransportRequest.Builder builder){
+        if(etag != null)
+            builder.setHeader("If-None-Match", etag);
+        if(lastModified != null)
+            builder.setHeader("If-Modified-Since", lastModified);
+    }
+    
+    String getValidatorKey(){
+        return etag + " " + lastModified;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import javax.annotation.Nonnull;
+
+/*
+ * Approximates the size of a cached response in bytes, based on the length of its raw JSON body.
+ * The typed model is decoded from that body, so its size grows with it.
+ */
+final class JsonWeigher implements Weigher<String, CachedResponse<?>>{
+    
+    @Override
+    public int weigh(@Nonnull String key, @Nonnull CachedResponse<?> value){
+        return (int)Math.min(Integer.MAX_VALUE, (long)key.length() + value.getSize());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * Keeps the latencies of the last requests per endpoint and derives timeouts from them.
+ *
+ * Until an endpoint has enough samples the ceiling is used, which is what the timeout was before any latency was
+ * known. Afterwards it is a multiple of the 99th percentile, kept between floor and ceiling.
+ */
+final class LatencyTracker{
+    
+    private static final int SAMPLES = 128;
+    private static final int MIN_SAMPLES = 8;
+    private static final double PERCENTILE = 0.99;
+    private static final int MULTIPLIER = 3;
+    
+    private final ConcurrentMap<String, Samples> samples = new ConcurrentHashMap<>();
+    
+    void record(String endpoint, long millis){
+        samples.computeIfAbsent(endpoint, k -> new Samples()).add(millis);
+    }
+    
+    long getTimeout(String endpoint, long floor, long ceiling){
+        Samples endpointSamples = samples.get(endpoint);
+        long percentile = endpointSamples == null ? -1 : endpointSamples.percentile(PERCENTILE);
+        if(percentile < 0)
+            return ceiling;
+        
+        return Math.max(floor, Math.min(ceiling, percentile * MULTIPLIER));
+    }
+    
+    // Ring of the last SAMPLES latencies. Copying and sorting 128 values is cheap compared to a request.
+    private static final class Samples{
+        private final long[] latencies = new long[SAMPLES];
+        private int count = 0;
+        private int next = 0;
+        
+        private synchronized void add(long millis){
+            latencies[next] = millis;
+            next = (next + 1) % SAMPLES;
+            if(count < SAMPLES)
+                count++;
+        }
+        
+        private synchronized long percentile(double percentile){
+            if(count < MIN_SAMPLES)
+                return -1;
+            
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            
+            return sorted[(int)Math.ceil(percentile * count) - 1];
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * Snapshot of the cached list responses on disk, used to answer the first list lookups after a restart without
+ * waiting for the API.
+ *
+ * The file is a GZIP compressed stream of: magic number, format version, time of writing, amount of entries and
+ * per entry the cache key, the validators and the UTF-8 encoded JSON.
+ * It is written to a temporary file first and then moved over the old one, so readers never see a partial file.
+ *
+ * The snapshot keeps its own copy of the responses instead of reading the cache, as updates are reported before
+ * Caffeine stores the new value. Their JSON is only serialized when the file is written in the background.
+ */
+final class ListSnapshot{
+    
+    private static final Logger LOG = LoggerFactory.getLogger("JavaBotBlockAPI - ListSnapshot");
+    private static final int MAGIC = 0x4A424241;
+    private static final int VERSION = 1;
+    
+    private final Path file;
+    private final long maxAge;
+    private final ConcurrentMap<String, CachedResponse<?>> responses = new ConcurrentHashMap<>();
+    private final AtomicBoolean writePending = new AtomicBoolean(false);
+    
+    ListSnapshot(@Nonnull Path file, long maxAge){
+        this.file = file;
+        this.maxAge = maxAge;
+    }
+    
+    Map<String, Entry> read(){
+        if(!Files.isRegularFile(file))
+            return Collections.emptyMap();
+        
+        try(DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))){
+            if(input.readInt() != MAGIC || input.readInt() != VERSION){
+                LOG.warn("Ignoring list snapshot {} as it has an unknown format.", file);
+                return Collections.emptyMap();
+            }
+            
+            long age = System.currentTimeMillis() - input.readLong();
+            if(age > maxAge){
+                LOG.debug("Ignoring list snapshot {} as it is {} ms old.", file, age);
+                return Collections.emptyMap();
+            }
+            
+            int entries = input.readInt();
+            Map<String, Entry> read = new HashMap<>(entries);
+            for(int i = 0; i < entries; i++){
+                String key = input.readUTF();
+                String etag = readNullable(input);
+                String lastModified = readNullable(input);
+                
+                byte[] json = new byte[input.readInt()];
+                input.readFully(json);
+                
+                read.put(key, new Entry(new String(json, StandardCharsets.UTF_8), etag, lastModified));
+            }
+            
+            return read;
+        }catch(IOException ex){
+            LOG.warn("Could not read list snapshot {}", file, ex);
+            return Collections.emptyMap();
+        }
+    }
+    
+    // Writes are done in the background and collapsed, so a burst of list requests only writes the file once.
+    void update(@Nonnull String key, @Nonnull CachedResponse<?> response){
+        responses.put(key, response);
+        if(!writePending.compareAndSet(false, true))
+            return;
+        
+        CompletableFuture.runAsync(() -> {
+            writePending.set(false);
+            write();
+        });
+    }
+    
+    // A response decoded from the file is kept for the next write, unless it was updated in the meantime.
+    void restore(@Nonnull String key, @Nonnull CachedResponse<?> response){
+        responses.putIfAbsent(key, response);
+    }
+    
+    private synchronized void write(){
+        Map<String, CachedResponse<?>> responses = new HashMap<>(this.responses);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try{
+            Path parent = file.toAbsolutePath().getParent();
+            if(parent != null)
+                Files.createDirectories(parent);
+            
+            try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))){
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeLong(System.currentTimeMillis());
+                output.writeInt(responses.size());
+                
+                for(Map.Entry<String, CachedResponse<?>> entry : responses.entrySet()){
+                    CachedResponse<?> response = entry.getValue();
+                    byte[] json = response.getJson().toString().getBytes(StandardCharsets.UTF_8);
+                    
+                    output.writeUTF(entry.getKey());
+                    writeNullable(output, response.getEtag());
+                    writeNullable(output, response.getLastModified());
+                    output.writeInt(json.length);
+                    output.write(json);
+                }
+            }
+            
+            try{
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }catch(AtomicMoveNotSupportedException ex){
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }catch(IOException ex){
+            LOG.warn("Could not write list snapshot {}", file, ex);
+        }
+    }
+    
+    @Nullable
+    private static String readNullable(DataInputStream input) throws IOException{
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+    
+    private static void writeNullable(DataOutputStream output, @Nullable String value) throws IOException{
+        output.writeBoolean(value != null);
+        if(value != null)
+            output.writeUTF(value);
+    }
+    
+    // A response read from the file, which is decoded into its typed model when it's put into the cache.
+    static final class Entry{
+        private final String body;
+        private final String etag;
+        private final String lastModified;
+        
+        private Entry(@Nonnull String body, @Nullable String etag, @Nullable String lastModified){
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+        
+        <T> CachedResponse<T> decode(@Nonnull Function<JSONObject, T> decoder){
+            return CachedResponse.decode(body, etag, lastModified, decoder);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/*
+ * The counts of a single post, written as request body together with the pre-encoded part of its PostTemplate.
+ * Numbers are written as decimal straight into an array of the exact length, so no JSONObject or String of the
+ * payload is created.
+ *
+ * A shard id of -1 means that shard_id isn't part of the payload, a shard count of 0 that shard_count isn't.
+ */
+public final class PostPayload{
+    
+    private static final byte[] SERVER_COUNT = "{\"server_count\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SHARD_ID = ",\"shard_id\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SHARD_COUNT = ",\"shard_count\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SHARDS = ",\"shards\":[".getBytes(StandardCharsets.UTF_8);
+    
+    private final PostTemplate template;
+    private final long serverCount;
+    private final int shardId;
+    private final int shardCount;
+    private final ShardCounts shards;
+    private int contentLength = -1;
+    
+    PostPayload(PostTemplate template, long serverCount, int shardId, int shardCount, @Nullable ShardCounts shards){
+        this.template = template;
+        this.serverCount = serverCount;
+        this.shardId = shardId;
+        this.shardCount = shardCount;
+        this.shards = shards;
+    }
+    
+    public int contentLength(){
+        if(contentLength >= 0)
+            return contentLength;
+        
+        int length = SERVER_COUNT.length + digits(serverCount) + template.getSuffix().length;
+        if(shardId >= 0)
+            length += SHARD_ID.length + digits(shardId);
+        if(shardCount > 0)
+            length += SHARD_COUNT.length + digits(shardCount);
+        if(shards != null){
+            length += SHARDS.length + 1 + Math.max(shards.size() - 1, 0);
+            for(int i = 0; i < shards.size(); i++)
+                length += digits(shards.get(i));
+        }
+        
+        return contentLength = length;
+    }
+    
+    // A new array is created on every call, as payloads are kept to compare them with the next one.
+    public byte[] toByteArray(){
+        byte[] bytes = new byte[contentLength()];
+        
+        int pos = write(bytes, 0, SERVER_COUNT);
+        pos = writeDecimal(bytes, pos, serverCount);
+        if(shardId >= 0){
+            pos = write(bytes, pos, SHARD_ID);
+            pos = writeDecimal(bytes, pos, shardId);
+        }
+        if(shardCount > 0){
+            pos = write(bytes, pos, SHARD_COUNT);
+            pos = writeDecimal(bytes, pos, shardCount);
+        }
+        if(shards != null){
+            pos = write(bytes, pos, SHARDS);
+            for(int i = 0; i < shards.size(); i++){
+                if(i > 0)
+                    bytes[pos++] = ',';
+                
+                pos = writeDecimal(bytes, pos, shards.get(i));
+            }
+            bytes[pos++] = ']';
+        }
+        
+        write(bytes, pos, template.getSuffix());
+        return bytes;
+    }
+    
+    String getBotId(){
+        return template.getBotId();
+    }
+    
+    int getShardId(){
+        return shardId;
+    }
+    
+    int getSites(){
+        return template.getSites();
+    }
+    
+    PostTemplate getTemplate(){
+        return template;
+    }
+    
+    @Override
+    public boolean equals(Object obj){
+        if(!(obj instanceof PostPayload))
+            return false;
+        
+        PostPayload other = (PostPayload)obj;
+        return template == other.template
+                && serverCount == other.serverCount
+                && shardId == other.shardId
+                && shardCount == other.shardCount
+                && Objects.equals(shards, other.shards);
+    }
+    
+    @Override
+    public int hashCode(){
+        return Objects.hash(template.getBotId(), serverCount, shardId, shardCount, shards);
+    }
+    
+    private static int write(byte[] bytes, int pos, byte[] part){
+        System.arraycopy(part, 0, bytes, pos, part.length);
+        return pos + part.length;
+    }
+    
+    private static int writeDecimal(byte[] bytes, int pos, long value){
+        int end = pos + digits(value);
+        int i = end;
+        long rest = value;
+        do{
+            bytes[--i] = (byte)('0' + Math.abs(rest % 10));
+            rest /= 10;
+        }while(rest != 0);
+        
+        if(value < 0)
+            bytes[--i] = '-';
+        
+        return end;
+    }
+    
+    private static int digits(long value){
+        int digits = value < 0 ? 2 : 1;
+        for(long rest = Math.abs(value / 10); rest > 0; rest /= 10)
+            digits++;
+        
+        return digits;
+    }
+}
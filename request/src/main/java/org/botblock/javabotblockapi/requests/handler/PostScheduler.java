@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Auto-post tasks of one RequestHandler.
+ *
+ * All instances share a single timer thread, whose delay queue hands due tasks to a small worker pool (or to virtual
+ * threads, see Threads). A scheduled task is therefore only an entry in the queue and not a thread, which keeps many
+ * PostActions in one JVM cheap. The threads time out once no tasks are left.
+ *
+ * Tasks run at a fixed rate like with ScheduledExecutorService#scheduleAtFixedRate, but each run may be delayed by a
+ * random jitter, so that bots started together don't all post at the same time. A run never overlaps with the
+ * previous run of the same task.
+ */
+public final class PostScheduler{
+    
+    private static final Logger LOG = LoggerFactory.getLogger("JavaBotBlockAPI - PostScheduler");
+    private static final int WORKER_COUNT = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final long KEEP_ALIVE = 60;
+    
+    private final List<Task> tasks = new ArrayList<>();
+    private int running = 0;
+    
+    // The jitter is in milliseconds, like BotBlockAPI#getUpdateJitter().
+    public void schedule(Runnable runnable, long initialDelay, long period, TimeUnit unit, long jitter){
+        Task task = new Task(this, runnable, unit.toNanos(period), TimeUnit.MILLISECONDS.toNanos(jitter));
+        synchronized(this){
+            tasks.add(task);
+        }
+        
+        task.nominal = System.nanoTime() + unit.toNanos(initialDelay);
+        task.scheduleNext();
+    }
+    
+    // Runs the task once right away, e.g. when the guild count changed.
+    public void execute(Runnable runnable){
+        Task task = new Task(this, runnable, 0, 0);
+        synchronized(this){
+            tasks.add(task);
+        }
+        
+        Pools.WORKERS.execute(task);
+    }
+    
+    // Cancels all tasks. Runs that already started are completed.
+    public void cancel(){
+        List<Task> cancelled;
+        synchronized(this){
+            cancelled = new ArrayList<>(tasks);
+            tasks.clear();
+        }
+        
+        for(Task task : cancelled)
+            task.cancel();
+    }
+    
+    public synchronized boolean awaitTermination(long time, TimeUnit unit) throws InterruptedException{
+        long deadline = System.nanoTime() + unit.toNanos(time);
+        while(running > 0){
+            long remaining = deadline - System.nanoTime();
+            if(remaining <= 0)
+                return false;
+            
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        
+        return true;
+    }
+    
+    private synchronized boolean start(Task task){
+        if(task.cancelled)
+            return false;
+        
+        running++;
+        return true;
+    }
+    
+    private synchronized void finish(Task task){
+        running--;
+        if(task.period == 0)
+            tasks.remove(task);
+        
+        notifyAll();
+    }
+    
+    private static final class Task implements Runnable{
+        private final PostScheduler scheduler;
+        private final Runnable runnable;
+        private final long period;
+        private final long jitter;
+        
+        // Time of the next run without jitter, in System.nanoTime().
+        private long nominal;
+        private volatile ScheduledFuture<?> future = null;
+        private volatile boolean cancelled = false;
+        
+        Task(PostScheduler scheduler, Runnable runnable, long period, long jitter){
+            this.scheduler = scheduler;
+            this.runnable = runnable;
+            this.period = period;
+            this.jitter = jitter;
+        }
+        
+        @Override
+        public void run(){
+            if(!scheduler.start(this))
+                return;
+            
+            try{
+                runnable.run();
+            }catch(RuntimeException ex){
+                LOG.warn("Got an exception while performing a auto-post task!", ex);
+            }finally{
+                scheduler.finish(this);
+            }
+            
+            if(period > 0){
+                nominal = Math.max(nominal + period, System.nanoTime());
+                scheduleNext();
+            }
+        }
+        
+        void scheduleNext(){
+            if(cancelled)
+                return;
+            
+            long delay = nominal - System.nanoTime();
+            if(jitter > 0)
+                delay += ThreadLocalRandom.current().nextLong(jitter + 1);
+            
+            future = Pools.TIMER.schedule(() -> Pools.WORKERS.execute(this), Math.max(0, delay), TimeUnit.NANOSECONDS);
+            
+            // cancel() may have missed the new future.
+            if(cancelled)
+                future.cancel(false);
+        }
+        
+        void cancel(){
+            cancelled = true;
+            
+            ScheduledFuture<?> future = this.future;
+            if(future != null)
+                future.cancel(false);
+        }
+    }
+    
+    // Created on first use, so that handlers which never auto-post don't start any threads.
+    private static final class Pools{
+        static final ScheduledThreadPoolExecutor TIMER = createTimer();
+        static final ExecutorService WORKERS = createWorkers();
+        
+        private static ScheduledThreadPoolExecutor createTimer(){
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("Timer"));
+            timer.setRemoveOnCancelPolicy(true);
+            timer.setKeepAliveTime(KEEP_ALIVE, TimeUnit.SECONDS);
+            timer.allowCoreThreadTimeOut(true);
+            
+            return timer;
+        }
+        
+        private static ExecutorService createWorkers(){
+            ExecutorService executor = Threads.newExecutor();
+            if(executor != null)
+                return executor;
+            
+            ThreadPoolExecutor workers = new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT, KEEP_ALIVE, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new NamedThreadFactory("Worker"));
+            workers.allowCoreThreadTimeOut(true);
+            
+            return workers;
+        }
+    }
+    
+    private static final class NamedThreadFactory implements ThreadFactory{
+        private final AtomicInteger count = new AtomicInteger();
+        private final String name;
+        
+        NamedThreadFactory(String name){
+            this.name = name;
+        }
+        
+        @Override
+        public Thread newThread(Runnable runnable){
+            return new Thread(runnable, "JavaBotBlockAPI-AutoPost-" + name + "-" + count.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.botblock.javabotblockapi.core.BotBlockAPI;
+import org.botblock.javabotblockapi.core.CheckUtil;
+import org.json.JSONObject;
+
+import javax.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * The part of a POST payload that doesn't change between posts of a bot: the bot id and the tokens of all sites.
+ * It is encoded to UTF-8 once, so a post only has to write its counts in front of it.
+ *
+ * Sites whose circuit is open are left out, so the template is replaced whenever the set of excluded sites changes.
+ * The map of tokens in the BotBlockAPI may be modified after it was created, so the template keeps a copy of the tokens
+ * it was built from and is replaced when they changed too.
+ */
+public final class PostTemplate{
+    
+    private final String botId;
+    private final BotBlockAPI botBlockAPI;
+    private final Map<String, String> tokens;
+    private final Set<String> excluded;
+    private final int sites;
+    private final byte[] suffix;
+    
+    PostTemplate(@Nonnull String botId, @Nonnull BotBlockAPI botBlockAPI, @Nonnull Set<String> excluded){
+        CheckUtil.notEmpty(botId, "botId");
+        
+        this.botId = botId;
+        this.botBlockAPI = botBlockAPI;
+        this.tokens = new HashMap<>(botBlockAPI.getTokens());
+        this.excluded = excluded;
+        
+        int sites = 0;
+        StringBuilder builder = new StringBuilder(",\"bot_id\":").append(JSONObject.quote(botId));
+        for(Map.Entry<String, String> token : tokens.entrySet()){
+            if(excluded.contains(token.getKey()))
+                continue;
+            
+            sites++;
+            builder.append(',')
+                   .append(JSONObject.quote(token.getKey()))
+                   .append(':')
+                   .append(JSONObject.quote(token.getValue()));
+        }
+        
+        this.sites = sites;
+        this.suffix = builder.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    public PostPayload payload(long serverCount){
+        return new PostPayload(this, serverCount, -1, 0, null);
+    }
+    
+    public PostPayload payload(long serverCount, int shardId, int shardCount){
+        return new PostPayload(this, serverCount, shardId, shardCount, null);
+    }
+    
+    public PostPayload payload(long serverCount, @Nonnull ShardCounts shards){
+        return new PostPayload(this, serverCount, -1, shards.size(), shards);
+    }
+    
+    String getBotId(){
+        return botId;
+    }
+    
+    BotBlockAPI getBotBlockAPI(){
+        return botBlockAPI;
+    }
+    
+    int getSites(){
+        return sites;
+    }
+    
+    byte[] getSuffix(){
+        return suffix;
+    }
+    
+    boolean isFor(String botId, BotBlockAPI botBlockAPI, Set<String> excluded){
+        return this.botBlockAPI == botBlockAPI && this.botId.equals(botId) && this.excluded.equals(excluded)
+                && this.tokens.equals(botBlockAPI.getTokens());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.botblock.javabotblockapi.core.exceptions.RateLimitedException;
+import org.botblock.javabotblockapi.requests.RateLimitMode;
+import org.json.JSONObject;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Keeps track of the rate limits received from the BotBlock API, so that requests towards a rate limited route are
+ * held back locally instead of being answered with another 429.
+ *
+ * Rate limits are stored per key, which is the route of the request and - for POST requests - the bot id.
+ * acquire(...) hands out a permit once a request may be performed, which has to be released after its response was
+ * handled. Only QUEUE makes use of the release, to start the next queued request.
+ * Windows are removed once they are checked after their rate limit expired and no requests are queued on them.
+ */
+final class RateLimiter{
+    
+    private static final long DEFAULT_DELAY = 1000;
+    private static final Runnable NO_PERMIT = () -> {};
+    
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    
+    static String getKey(@Nonnull String route, @Nullable String botId){
+        return botId == null ? route : route + " " + botId;
+    }
+    
+    CompletableFuture<Runnable> acquire(@Nonnull String key, @Nonnull RateLimitMode mode){
+        Window window = windows.get(key);
+        if(window == null)
+            return CompletableFuture.completedFuture(NO_PERMIT);
+        
+        synchronized(window){
+            long remaining = window.getRemaining();
+            if(window.removed || (remaining <= 0 && window.tail.isDone())){
+                window.removed = true;
+                windows.remove(key, window);
+                return CompletableFuture.completedFuture(NO_PERMIT);
+            }
+            
+            switch(mode){
+                case FAIL_FAST:
+                    if(remaining > 0)
+                        return CompletableFuture.failedFuture(window.toException(remaining));
+                    
+                    return CompletableFuture.completedFuture(NO_PERMIT);
+                
+                case WAIT:
+                    return whenClear(window).thenApply(v -> NO_PERMIT);
+                
+                default:
+                    CompletableFuture<Void> previous = window.tail;
+                    CompletableFuture<Void> released = new CompletableFuture<>();
+                    window.tail = released;
+                    
+                    CompletableFuture<Runnable> permit = previous.thenCompose(v -> whenClear(window))
+                            .thenApply(v -> () -> released.complete(null));
+                    
+                    // A caller giving up must not block the requests queued after it.
+                    permit.whenComplete((value, ex) -> {
+                        if(ex != null)
+                            released.complete(null);
+                    });
+                    return permit;
+            }
+        }
+    }
+    
+    void limit(@Nonnull String key, @Nonnull RateLimitedException ex){
+        long delay = ex.getDelay() > 0 ? ex.getDelay() : DEFAULT_DELAY;
+        // A window removed in the meantime is replaced, as the rate limit would otherwise be lost.
+        while(true){
+            Window window = windows.computeIfAbsent(key, k -> new Window());
+            
+            synchronized(window){
+                if(window.removed)
+                    continue;
+                
+                window.blockedUntil = Math.max(window.blockedUntil, System.currentTimeMillis() + delay);
+                window.route = ex.getRoute();
+                window.botId = ex.getBotId();
+                window.ip = ex.getIp();
+                return;
+            }
+        }
+    }
+    
+    int size(){
+        return windows.size();
+    }
+    
+    // Checks again after waiting, as another rate limit may have extended the window in the meantime.
+    private CompletableFuture<Void> whenClear(Window window){
+        long remaining;
+        synchronized(window){
+            remaining = window.getRemaining();
+        }
+        
+        if(remaining <= 0)
+            return CompletableFuture.completedFuture(null);
+        
+        return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(remaining, TimeUnit.MILLISECONDS))
+                .thenCompose(v -> whenClear(window));
+    }
+    
+    private static final class Window{
+        private long blockedUntil = 0;
+        private String route;
+        private String botId;
+        private String ip;
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+        private boolean removed = false;
+        
+        private long getRemaining(){
+            return blockedUntil - System.currentTimeMillis();
+        }
+        
+        private RateLimitedException toException(long remaining){
+            return new RateLimitedException(new JSONObject()
+                    .put("retry_after", remaining)
+                    .put("ratelimit_route", route)
+                    .put("ratelimit_bot_id", botId)
+                    .put("ratelimit_ip", ip));
+        }
+    }
+}
@@ -18,12 +18,25 @@
 
 package org.botblock.javabotblockapi.requests.handler;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import okhttp3.*;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.botblock.javabotblockapi.core.BotBlockAPI;
 import org.botblock.javabotblockapi.core.exceptions.RateLimitedException;
 import org.botblock.javabotblockapi.core.CheckUtil;
-import org.json.JSONArray;
+import org.botblock.javabotblockapi.requests.CacheSettings;
+import org.botblock.javabotblockapi.requests.RateLimitMode;
+import org.botblock.javabotblockapi.requests.TimeoutSettings;
+import org.botblock.javabotblockapi.requests.objects.BotInfo;
+import org.botblock.javabotblockapi.requests.objects.BulkBotInfo;
+import org.botblock.javabotblockapi.requests.objects.ListInfo;
+import org.botblock.javabotblockapi.requests.objects.PostResult;
+import org.botblock.javabotblockapi.requests.transport.HttpTransport;
+import org.botblock.javabotblockapi.requests.transport.TransportRequest;
+import org.botblock.javabotblockapi.requests.transport.TransportResponse;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.slf4j.Logger;
@@ -32,228 +45,1029 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 public class RequestHandler{
     
+    private static final ConcurrentMap<String, InFlight> IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final RateLimiter RATE_LIMITER = new RateLimiter();
+    private static final LatencyTracker LATENCIES = new LatencyTracker();
+    private static final long EXPIRED_RESPONSE_LIFETIME = 30;
+    private static final String DEFAULT_BASE_URL = "https://botblock.org/api/";
+    
     private final Logger LOG = LoggerFactory.getLogger("JavaBotBlockAPI - RequestHandler");
-    private final OkHttpClient CLIENT = new OkHttpClient();
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final SharedTransport.Lease lease;
+    private final HttpTransport transport;
+    private PostScheduler scheduler = null;
     
-    private final String BASE_URL = "https://botblock.org/api/";
+    private volatile String baseUrl;
     private final String userAgent;
+    private volatile RateLimitMode rateLimitMode = RateLimitMode.FAIL_FAST;
+    private volatile TimeoutSettings timeoutSettings = TimeoutSettings.getDefault();
+    private final ConcurrentMap<String, LastPost> lastPosts = new ConcurrentHashMap<>();
+    private volatile PostTemplate postTemplate = null;
+    private final SiteHealth siteHealth = new SiteHealth();
+    private volatile PostResult lastResult = null;
+    private volatile Consumer<PostResult> resultListener = null;
     
-    private final Cache<String, JSONObject> botCache = Caffeine.newBuilder()
-            .expireAfterWrite(2, TimeUnit.MINUTES)
-            .build();
-    private final Cache<String, JSONObject> listCache = Caffeine.newBuilder()
-            .expireAfterWrite(2, TimeUnit.MINUTES)
-            .build();
+    private final List<Cache<String, ?>> expiredCaches = new ArrayList<>();
+    private final boolean softValues;
+    private final AsyncLoadingCache<String, CachedResponse<BotInfo>> botCache;
+    private final AsyncLoadingCache<String, CachedResponse<Map<String, ListInfo>>> listsCache;
+    private final AsyncLoadingCache<String, CachedResponse<ListInfo>> listCache;
+    private final ListSnapshot listSnapshot;
     
     public RequestHandler(String userAgent){
+        this(userAgent, CacheSettings.getDefault());
+    }
+    
+    public RequestHandler(String userAgent, CacheSettings cacheSettings){
+        this(userAgent, cacheSettings, DEFAULT_BASE_URL);
+    }
+    
+    public RequestHandler(String userAgent, CacheSettings cacheSettings, String baseUrl){
+        this(userAgent, cacheSettings, baseUrl, null);
+    }
+    
+    // Without a transport is the shared one used. A provided transport isn't closed by the handler.
+    public RequestHandler(String userAgent, CacheSettings cacheSettings, String baseUrl, @Nullable HttpTransport transport){
+        checkBaseUrl(baseUrl);
+        
+        this.lease = transport == null ? SharedTransport.lease(this) : null;
+        this.transport = transport == null ? lease.getTransport() : transport;
+        this.baseUrl = baseUrl;
         this.userAgent = userAgent;
+        this.softValues = cacheSettings.isSoftValues();
+        this.listSnapshot = cacheSettings.isEnabled() && cacheSettings.getListSnapshot() != null
+                ? new ListSnapshot(cacheSettings.getListSnapshot(), cacheSettings.getListSnapshotMaxAge())
+                : null;
+        // The loaders read the base URL when they run, so that they follow setBaseUrl(...).
+        this.botCache = buildCache(cacheSettings, CacheSettings.Endpoint.BOTS, id -> url("bots/" + id), BotInfo::new,
+                (id, response) -> {});
+        this.listsCache = buildCache(cacheSettings, CacheSettings.Endpoint.LISTS, this::url, RequestHandler::decodeLists,
+                this::writeListSnapshot);
+        this.listCache = buildCache(cacheSettings, CacheSettings.Endpoint.LISTS, this::url, ListInfo::new,
+                this::writeListSnapshot);
+        
+        loadListSnapshot();
     }
     
     public JSONObject performGetBot(@Nonnull String id, boolean disableCache){
-        String url = BASE_URL + "bots/" + id;
+        return getBot(id, disableCache, CachedResponse::getJson);
+    }
+    
+    public BotInfo performGetBotInfo(@Nonnull String id, boolean disableCache){
+        return getBot(id, disableCache, CachedResponse::getModel);
+    }
+    
+    public BulkBotInfo performGetBotInfos(@Nonnull Collection<String> ids, int maxConcurrency, boolean disableCache){
+        return performGetBotInfosAsync(ids, maxConcurrency, disableCache).join();
+    }
+    
+    public JSONObject performGetList(@Nullable String site, boolean disableCache, boolean filtered){
+        if(site == null)
+            return getList(getListKey(null, filtered), listsCache, RequestHandler::decodeLists, disableCache, CachedResponse::getJson);
         
-        if(!disableCache)
-            return botCache.get(id, k -> {
-                try{
-                    return performGET(url, userAgent);
-                }catch(IOException | RateLimitedException ex){
-                    LOG.error("Exception while performing a GET request. Type: Get Bot, Cache: Enabled", ex);
-                    return null;
-                }
-            });
+        return getSiteList(site, disableCache, filtered, CachedResponse::getJson, (lists, name) -> lists.getJson().optJSONObject(name));
+    }
+    
+    public ListInfo performGetListInfo(@Nonnull String site, boolean disableCache){
+        return getSiteList(site, disableCache, false, CachedResponse::getModel, (lists, name) -> lists.getModel().get(name));
+    }
+    
+    public Map<String, ListInfo> performGetListInfos(boolean disableCache, boolean filtered){
+        return getList(getListKey(null, filtered), listsCache, RequestHandler::decodeLists, disableCache, CachedResponse::getModel);
+    }
+    
+    public CompletableFuture<JSONObject> performGetBotAsync(@Nonnull String id, boolean disableCache){
+        return getBotAsync(id, disableCache, CachedResponse::getJson);
+    }
+    
+    public CompletableFuture<BotInfo> performGetBotInfoAsync(@Nonnull String id, boolean disableCache){
+        return getBotAsync(id, disableCache, CachedResponse::getModel);
+    }
+    
+    // Duplicated ids are only requested once and cached bots are taken from the cache without a request.
+    public CompletableFuture<BulkBotInfo> performGetBotInfosAsync(@Nonnull Collection<String> ids, int maxConcurrency, boolean disableCache){
+        List<String> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<String, BotInfo> cached = new HashMap<>();
         
-        try{
-            return performGET(url, userAgent);
-        }catch(IOException ex){
-            LOG.error("Exception while performing a GET request. Type: Get Bot, Cache: Disabled", ex);
-            return null;
+        if(!disableCache){
+            for(String id : uniqueIds){
+                CachedResponse<BotInfo> response = resolve(botCache.synchronous().getIfPresent(id));
+                if(response != null)
+                    cached.put(id, response.getModel());
+            }
         }
+        
+        return new BulkBotRequest(uniqueIds, cached, id -> performGetBotInfoAsync(id, disableCache)).start(maxConcurrency);
+    }
+    
+    public CompletableFuture<JSONObject> performGetListAsync(@Nullable String site, boolean disableCache, boolean filtered){
+        if(site == null)
+            return getListAsync(getListKey(null, filtered), listsCache, RequestHandler::decodeLists, disableCache, CachedResponse::getJson);
+        
+        return getSiteListAsync(site, disableCache, filtered, CachedResponse::getJson, (lists, name) -> lists.getJson().optJSONObject(name));
     }
     
-    public JSONObject performGetList(@Nonnull String id, boolean disableCache, boolean filtered){
-        return performGetList(id, null, disableCache, filtered);
+    public CompletableFuture<ListInfo> performGetListInfoAsync(@Nonnull String site, boolean disableCache){
+        return getSiteListAsync(site, disableCache, false, CachedResponse::getModel, (lists, name) -> lists.getModel().get(name));
     }
     
-    public JSONObject performGetList(@Nonnull String id, @Nullable String site, boolean disableCache){
-        return performGetList(id, site, disableCache, false);
+    public CompletableFuture<Map<String, ListInfo>> performGetListInfosAsync(boolean disableCache, boolean filtered){
+        return getListAsync(getListKey(null, filtered), listsCache, RequestHandler::decodeLists, disableCache, CachedResponse::getModel);
     }
     
-    public JSONObject performGetList(@Nonnull String id, @Nullable String site, boolean disableCache, boolean filtered){
-        String url = BASE_URL + "lists" + (site == null ? "" : "/" + site);
-        if(filtered)
-            url += "?filter=true";
+    /*
+     * The template of the last bot is kept, as a PostAction usually posts for the same bot with the same BotBlockAPI
+     * on every tick. Sites whose circuit is open are left out when the circuit breaker is enabled.
+     */
+    public PostTemplate getPostTemplate(@Nonnull String botId, @Nonnull BotBlockAPI botBlockAPI){
+        Set<String> excluded = botBlockAPI.getCircuitBreakerThreshold() > 0
+                ? siteHealth.getExcluded(botBlockAPI.getTokens().keySet(), botBlockAPI.getCircuitOpenTime())
+                : Collections.emptySet();
         
-        if(!disableCache){
-            String finalUrl = url;
-            return listCache.get(id, k -> {
-                try{
-                    return performGET(finalUrl, userAgent);
-                }catch(IOException ex){
-                    LOG.error("IOException while performing a GET request. Type: Get list, Cache: Enabled", ex);
-                    return null;
-                }
-            });
+        PostTemplate template = postTemplate;
+        if(template == null || !template.isFor(botId, botBlockAPI, excluded))
+            postTemplate = template = new PostTemplate(botId, botBlockAPI, excluded);
+        
+        return template;
+    }
+    
+    /*
+     * Used by the auto-post tasks. When enabled in the BotBlockAPI, a payload equal to the last one all sites accepted
+     * is not posted again, unless it was already skipped for (forcePostInterval - 1) intervals in a row.
+     * Payloads are tracked per bot and shard, as every shard of a JDA bot posts on its own.
+     */
+    public void performAutoPOST(@Nonnull PostPayload payload, @Nonnull BotBlockAPI botBlockAPI) throws IOException{
+        if(!botBlockAPI.isSkipUnchanged()){
+            autoPost(payload);
+            return;
+        }
+        
+        String key = payload.getBotId() + " " + (payload.getShardId() < 0 ? "" : payload.getShardId());
+        LastPost lastPost = lastPosts.get(key);
+        if(lastPost != null && lastPost.skip(payload, botBlockAPI.getForcePostInterval())){
+            LOG.debug("Skipping auto-post of bot {}, as the payload didn't change since the last post.", payload.getBotId());
+            return;
         }
         
+        lastPosts.remove(key);
+        PostResult result = autoPost(payload);
+        if(result != null && result.isSuccess())
+            lastPosts.put(key, new LastPost(payload));
+    }
+    
+    // Returns null when the API responded with an empty body.
+    @Nullable
+    public PostResult performPOST(@Nonnull PostPayload payload) throws IOException{
+        PostResult result = post(payload.getBotId(), payload.toByteArray(), payload.getSites());
+        
+        int failureThreshold = payload.getTemplate().getBotBlockAPI().getCircuitBreakerThreshold();
+        if(result != null && failureThreshold > 0)
+            siteHealth.record(result, failureThreshold);
+        
+        return result;
+    }
+    
+    // Returns null when the API responded with an empty body.
+    @Nullable
+    public PostResult performPOST(@Nonnull JSONObject json, int sites) throws IOException{
+        return post(json.optString("bot_id", null), json.toString().getBytes(StandardCharsets.UTF_8), sites);
+    }
+    
+    @Nullable
+    public PostResult getLastResult(){
+        return lastResult;
+    }
+    
+    public void setResultListener(@Nullable Consumer<PostResult> resultListener){
+        this.resultListener = resultListener;
+    }
+    
+    // Results of the auto-post tasks are kept and handed to the listener, including rate limited posts.
+    private PostResult autoPost(PostPayload payload) throws IOException{
+        PostResult result;
         try{
-            return performGET(url, userAgent);
-        }catch(IOException ex){
-            LOG.error("IOException while performing a GET request. Type: Get list, Cache: Disabled", ex);
-            return null;
+            result = performPOST(payload);
+        }catch(RateLimitedException ex){
+            publishResult(new PostResult(ex));
+            throw ex;
         }
         
+        if(result != null)
+            publishResult(result);
+        
+        return result;
+    }
+    
+    private void publishResult(PostResult result){
+        lastResult = result;
+        
+        Consumer<PostResult> listener = resultListener;
+        if(listener == null)
+            return;
+        
+        try{
+            listener.accept(result);
+        }catch(RuntimeException ex){
+            LOG.warn("The result listener threw an exception!", ex);
+        }
     }
     
-    public void performPOST(@Nonnull JSONObject json, int sites) throws IOException{
+    private PostResult post(@Nullable String botId, @Nonnull byte[] body, int sites) throws IOException{
         CheckUtil.condition(sites < 1, "The POST action requires at least 1 site!");
         
-        String url = BASE_URL + "count";
-        final long timeout = sites * 10L;
+        String base = baseUrl;
+        String url = base + "count";
+        // The API posts to every site before it responds, so latencies are tracked per amount of sites.
+        // Both latencies and rate limits are tracked per base URL, so a local API doesn't affect the real one.
+        String endpoint = base + "count/" + sites;
+        TimeoutSettings settings = timeoutSettings;
+        long ceiling = sites * settings.getMaxTimeoutPerSite();
+        long millis = settings.isAdaptive()
+                ? LATENCIES.getTimeout(endpoint, Math.min(settings.getMinTimeout(), ceiling), ceiling)
+                : ceiling;
         
-        OkHttpClient postClient = CLIENT.newBuilder()
-                .callTimeout(timeout, TimeUnit.SECONDS)
-                .readTimeout(timeout, TimeUnit.SECONDS)
-                .writeTimeout(timeout, TimeUnit.SECONDS)
-                .build();
+        String rateLimitKey = RateLimiter.getKey(url, botId);
+        Runnable permit = awaitPermit(rateLimitKey);
         
-        RequestBody body = RequestBody.create(json.toString(), null);
-        Request request = new Request.Builder()
-                .url(url)
-                .addHeader("Content-Type", "application/json")
-                .addHeader("User-Agent", userAgent)
-                .post(body)
+        TransportRequest request = new TransportRequest.Builder()
+                .setUrl(url)
+                .setHeader("Content-Type", "application/json")
+                .setHeader("User-Agent", userAgent)
+                .setTimeout(millis, Math.min(settings.getConnectTimeout(), millis))
+                .setBody(body)
                 .build();
         
-        try(Response response = postClient.newCall(request).execute()){
-            ResponseBody responseBody = response.body();
-            if(responseBody == null){
-                LOG.error("Received empty Response from BotBlock API!");
-                LOG.error(
-                        "Response{timestamp={}, protocol={}, code={}, message={}, headers={}}",
-                        System.currentTimeMillis(),
-                        response.protocol(),
-                        response.code(),
-                        response.message(),
-                        response.headers()
-                );
-                return;
-            }
+        long start = System.nanoTime();
+        try{
+            TransportResponse response = transport.execute(request);
+            long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            LATENCIES.record(endpoint, latency);
             
-            String bodyString = responseBody.string();
+            String bodyString = response.getBody();
             if(bodyString.isEmpty()){
-                LOG.error("Received empty Response from BotBlock API!");
-                LOG.error(
-                        "Response{timestamp={}, protocol={}, code={}, message={}, headers={}}",
-                        System.currentTimeMillis(),
-                        response.protocol(),
-                        response.code(),
-                        response.message(),
-                        response.headers()
-                );
-                return;
+                logEmptyResponse(response);
+                return null;
             }
             
             if(!response.isSuccessful()){
-                if(response.code() == 429){
+                if(response.getCode() == 429){
                     JSONObject errorJson = new JSONObject(bodyString);
-                    throw new RateLimitedException(errorJson);
+                    RateLimitedException ex = new RateLimitedException(errorJson);
+                    RATE_LIMITER.limit(rateLimitKey, ex);
+                    throw ex;
                 }
                 
                 throw new IOException(String.format(
                         "Could not post Guild count. The API responded with error code %d (%s)",
-                        response.code(),
-                        response.message()
+                        response.getCode(),
+                        response.getMessage()
                 ));
             }
             
-            JSONObject responseJson = new JSONObject(bodyString);
-            if(!responseJson.getJSONObject("failure").isEmpty()){
-                JSONObject failure = responseJson.getJSONObject("failure");
-                JSONArray failures = new JSONArray();
-                
-                for(String key : failure.keySet()){
-                    try{
-                        JSONArray array = failure.getJSONArray(key);
-                        failures.put(getJson(key, array));
-                    }catch(JSONException ex){
-                        failures.put(getJson(key, null));
-                    }
-                }
-                
-                LOG.warn("One or more POST requests returned a non-successful response. JSON with failed sites below.");
-                LOG.warn(failures.toString());
-            }
+            PostResult result = new PostResult(new JSONObject(bodyString), latency);
+            if(result.hasFailures())
+                LOG.warn("One or more POST requests returned a non-successful response. Failed sites: {}", result.getFailures().values());
+            
+            return result;
+        }catch(InterruptedIOException ex){
+            // A timed out post counts with its timeout, so that the timeout grows again when the API got slower.
+            LATENCIES.record(endpoint, millis);
+            throw ex;
+        }finally{
+            permit.run();
         }
     }
     
-    public ScheduledExecutorService getScheduler(){
+    public CacheStats getBotCacheStats(){
+        return botCache.synchronous().stats();
+    }
+    
+    public CacheStats getListCacheStats(){
+        return listsCache.synchronous().stats().plus(listCache.synchronous().stats());
+    }
+    
+    public void setRateLimitMode(@Nonnull RateLimitMode rateLimitMode){
+        this.rateLimitMode = rateLimitMode;
+    }
+    
+    public void setTimeoutSettings(@Nonnull TimeoutSettings timeoutSettings){
+        this.timeoutSettings = timeoutSettings;
+    }
+    
+    /*
+     * Responses and skipped posts of the previous API don't apply to the new one, so the caches and the state of the
+     * auto-posts are reset.
+     */
+    public void setBaseUrl(@Nonnull String baseUrl){
+        checkBaseUrl(baseUrl);
+        if(baseUrl.equals(this.baseUrl))
+            return;
+        
+        this.baseUrl = baseUrl;
+        lastPosts.clear();
+        invalidateCaches();
+    }
+    
+    public void invalidateCaches(){
+        botCache.synchronous().invalidateAll();
+        listsCache.synchronous().invalidateAll();
+        listCache.synchronous().invalidateAll();
+        expiredCaches.forEach(Cache::invalidateAll);
+    }
+    
+    public synchronized PostScheduler getScheduler(){
+        if(scheduler == null)
+            scheduler = new PostScheduler();
+        
         return scheduler;
     }
     
-    private JSONObject performGET(@Nonnull String url, String header) throws IOException{
-        Request request = new Request.Builder()
-                .url(url)
-                .addHeader("User-Agent", header)
-                .build();
+    public void close(){
+        if(lease != null)
+            lease.close();
+    }
+    
+    /*
+     * The GET methods share their logic and only differ in what they return from a response: the JSON or its typed
+     * model, which is decoded once when the response is received and kept with it.
+     */
+    private <T> T getBot(@Nonnull String id, boolean disableCache, Function<CachedResponse<BotInfo>, T> mapper){
+        String url = baseUrl + "bots/" + id;
+        CachedResponse<BotInfo> response;
         
-        try(Response response = CLIENT.newCall(request).execute()){
-            ResponseBody body = response.body();
-            if(body == null){
-                LOG.error("Received empty Response from BotBlock API!");
-                LOG.error(
-                        "Response{timestamp={}, protocol={}, code={}, message={}, headers={}}",
-                        System.currentTimeMillis(),
-                        response.protocol(),
-                        response.code(),
-                        response.message(),
-                        response.headers()
-                );
+        if(!disableCache){
+            try{
+                response = await(fromCache(botCache, id, Function.identity()), url);
+            }catch(IOException | RateLimitedException ex){
+                LOG.error("Exception while performing a GET request. Type: Get Bot, Cache: Enabled", ex);
                 return null;
             }
-            
-            String bodyString = body.string();
-            if(bodyString.isEmpty()){
-                LOG.error("Received empty Response from BotBlock API!");
-                LOG.error(
-                        "Response{timestamp={}, protocol={}, code={}, message={}, headers={}}",
-                        System.currentTimeMillis(),
-                        response.protocol(),
-                        response.code(),
-                        response.message(),
-                        response.headers()
-                );
+        }else{
+            try{
+                response = performGET(url, userAgent, BotInfo::new);
+            }catch(IOException ex){
+                LOG.error("Exception while performing a GET request. Type: Get Bot, Cache: Disabled", ex);
+                return null;
+            }
+        }
+        
+        return response == null ? null : mapper.apply(response);
+    }
+    
+    /*
+     * Lists are cached by their URL, so the full, the filtered and every single list have their own entry.
+     * The full lists are decoded into a map of ListInfo and a single list into a ListInfo, so both have their own cache.
+     */
+    private <M, T> T getList(String key, AsyncLoadingCache<String, CachedResponse<M>> cache, Function<JSONObject, M> decoder,
+                             boolean disableCache, Function<CachedResponse<M>, T> mapper){
+        CachedResponse<M> response;
+        
+        if(!disableCache){
+            try{
+                response = await(fromCache(cache, key, Function.identity()), baseUrl + key);
+            }catch(IOException ex){
+                LOG.error("IOException while performing a GET request. Type: Get list, Cache: Enabled", ex);
                 return null;
             }
+        }else{
+            try{
+                response = performGET(baseUrl + key, userAgent, decoder);
+            }catch(IOException ex){
+                LOG.error("IOException while performing a GET request. Type: Get list, Cache: Disabled", ex);
+                return null;
+            }
+        }
+        
+        return response == null ? null : mapper.apply(response);
+    }
+    
+    // A single list is taken from an already cached response of /lists (with the same filter flag) when possible.
+    private <T> T getSiteList(@Nonnull String site, boolean disableCache, boolean filtered, Function<CachedResponse<ListInfo>, T> mapper,
+                              BiFunction<CachedResponse<Map<String, ListInfo>>, String, T> siteMapper){
+        if(!disableCache){
+            T cached = getCachedList(site, filtered, mapper, siteMapper);
+            if(cached != null)
+                return cached;
+        }
+        
+        return getList(getListKey(site, filtered), listCache, ListInfo::new, disableCache, mapper);
+    }
+    
+    private <T> CompletableFuture<T> getBotAsync(@Nonnull String id, boolean disableCache, Function<CachedResponse<BotInfo>, T> mapper){
+        if(disableCache)
+            return attach(performGETAsync(baseUrl + "bots/" + id, userAgent, null, BotInfo::new), mapper, null);
+        
+        return fromCache(botCache, id, mapper);
+    }
+    
+    private <M, T> CompletableFuture<T> getListAsync(String key, AsyncLoadingCache<String, CachedResponse<M>> cache,
+                                                     Function<JSONObject, M> decoder, boolean disableCache,
+                                                     Function<CachedResponse<M>, T> mapper){
+        if(disableCache)
+            return attach(performGETAsync(baseUrl + key, userAgent, null, decoder), mapper, null);
+        
+        return fromCache(cache, key, mapper);
+    }
+    
+    private <T> CompletableFuture<T> getSiteListAsync(@Nonnull String site, boolean disableCache, boolean filtered,
+                                                      Function<CachedResponse<ListInfo>, T> mapper,
+                                                      BiFunction<CachedResponse<Map<String, ListInfo>>, String, T> siteMapper){
+        if(!disableCache){
+            CompletableFuture<T> cached = completed(() -> getCachedList(site, filtered, mapper, siteMapper));
+            if(cached.isCompletedExceptionally() || cached.join() != null)
+                return cached;
+        }
+        
+        return getListAsync(getListKey(site, filtered), listCache, ListInfo::new, disableCache, mapper);
+    }
+    
+    // Failures of mapping a cached response are reported through the future, like the ones of a request.
+    private <T> CompletableFuture<T> completed(Supplier<T> supplier){
+        try{
+            return CompletableFuture.completedFuture(supplier.get());
+        }catch(RuntimeException ex){
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+    
+    // A cached response whose soft reference got collected is dropped and loaded again.
+    private <M, T> CompletableFuture<T> fromCache(AsyncLoadingCache<String, CachedResponse<M>> cache, String key,
+                                                 Function<CachedResponse<M>, T> mapper){
+        CompletableFuture<CachedResponse<M>> load = cache.get(key);
+        return attach(load, mapper, () -> {
+            cache.asMap().remove(key, load);
+            return fromCache(cache, key, mapper);
+        });
+    }
+    
+    /*
+     * Hands the result of a cache load or request to a caller. Every caller joins a cache load, which is only
+     * abandoned once all of them cancelled their future. Cancelling the future of an uncached request cancels it.
+     * Loaded values are never put into the cache from here, as that is done by Caffeine.
+     * 
+     * reload is used when the response got collected, which can only happen to cached responses.
+     */
+    private <M, T> CompletableFuture<T> attach(CompletableFuture<CachedResponse<M>> source, Function<CachedResponse<M>, T> mapper,
+                                               @Nullable Supplier<CompletableFuture<T>> reload){
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if(source instanceof SharedLoad){
+            SharedLoad<?> load = (SharedLoad<?>)source;
+            if(load.attach()){
+                future.whenComplete((value, ex) -> {
+                    if(future.isCancelled())
+                        load.detach();
+                });
+            }
+        }else{
+            future.whenComplete((value, ex) -> {
+                if(future.isCancelled())
+                    source.cancel(true);
+            });
+        }
+        
+        source.whenComplete((response, ex) -> {
+            if(ex != null){
+                future.completeExceptionally(unwrap(ex));
+                return;
+            }
             
-            if(!response.isSuccessful()){
-                if(response.code() == 429){
-                    JSONObject errorJson = new JSONObject(bodyString);
-                    throw new RateLimitedException(errorJson);
-                }
+            CachedResponse<M> resolved = resolve(response);
+            if(resolved == null && response != null && reload != null){
+                CompletableFuture<T> retry = reload.get();
+                future.whenComplete((value, futureEx) -> {
+                    if(future.isCancelled())
+                        retry.cancel(true);
+                });
+                retry.whenComplete((value, retryEx) -> {
+                    if(retryEx != null)
+                        future.completeExceptionally(retryEx);
+                    else
+                        future.complete(value);
+                });
+                return;
+            }
+            
+            try{
+                future.complete(resolved == null ? null : mapper.apply(resolved));
+            }catch(RuntimeException mapperEx){
+                future.completeExceptionally(mapperEx);
+            }
+        });
+        
+        return future;
+    }
+    
+    @Nullable
+    private static <M> CachedResponse<M> resolve(@Nullable CachedResponse<M> response){
+        return response == null ? null : response.resolve();
+    }
+    
+    // With soft values is only a soft copy stored in the cache.
+    private <M> CachedResponse<M> stored(CachedResponse<M> response){
+        return softValues ? response.softly() : response;
+    }
+    
+    private <M> CachedResponse<M> performGET(@Nonnull String url, String header, Function<JSONObject, M> decoder) throws IOException{
+        return await(performGETAsync(url, header, null, decoder), url);
+    }
+    
+    private <T> T await(CompletableFuture<T> future, String url) throws IOException{
+        try{
+            return future.get();
+        }catch(InterruptedException ex){
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a response from " + url);
+        }catch(ExecutionException ex){
+            Throwable cause = ex.getCause();
+            if(cause instanceof IOException)
+                throw (IOException)cause;
+            if(cause instanceof RuntimeException)
+                throw (RuntimeException)cause;
+            
+            throw new IOException(cause);
+        }
+    }
+    
+    /*
+     * Concurrent GET requests for the same URL (and User-Agent) share a single HTTP call, no matter if they come from
+     * this or another RequestHandler. The response - or the exception - is handed to every waiting caller, which
+     * decodes it into its own CachedResponse.
+     * 
+     * When a previous response is provided will the request be conditional. Requests are only shared between callers
+     * having the same validators, which also makes it safe to confirm the previous response of every caller by a 304.
+     * 
+     * The rate limit mode and the timeouts of the handler starting the shared call apply to all callers sharing it.
+     */
+    private <M> CompletableFuture<CachedResponse<M>> performGETAsync(@Nonnull String url, String header, @Nullable CachedResponse<M> previous,
+                                                                     Function<JSONObject, M> decoder){
+        String key = header + " " + url + (previous == null ? "" : " " + previous.getValidatorKey());
+        boolean[] leader = {false};
+        InFlight flight = IN_FLIGHT.compute(key, (k, current) -> {
+            if(current != null && current.join())
+                return current;
+            
+            InFlight created = new InFlight();
+            created.join();
+            leader[0] = true;
+            return created;
+        });
+        
+        if(leader[0]){
+            flight.result.whenComplete((response, ex) -> IN_FLIGHT.remove(key, flight));
+            
+            CompletableFuture<TransportResponse> call = limitedGET(url, header, previous);
+            call.whenComplete((response, ex) -> {
+                if(ex != null)
+                    flight.result.completeExceptionally(ex);
+                else
+                    flight.result.complete(response);
+            });
+            flight.result.whenComplete((response, ex) -> {
+                if(flight.result.isCancelled())
+                    call.cancel(true);
+            });
+        }
+        
+        CompletableFuture<CachedResponse<M>> future = new CompletableFuture<>();
+        flight.result.whenComplete((response, ex) -> {
+            if(ex != null){
+                future.completeExceptionally(ex);
+                return;
+            }
+            
+            try{
+                if(response == null)
+                    future.complete(null);
+                else if(response.getCode() == 304 && previous != null)
+                    future.complete(previous.revalidated(response));
+                else
+                    future.complete(CachedResponse.decode(response, decoder));
+            }catch(RuntimeException decodeEx){
+                future.completeExceptionally(decodeEx);
+            }
+        });
+        future.whenComplete((value, ex) -> {
+            if(future.isCancelled())
+                flight.leave();
+        });
+        
+        return future;
+    }
+    
+    /*
+     * Performs the request once the rate limiter allows it. A 429 is recorded before the permit gets released, so
+     * that queued requests see the new rate limit.
+     */
+    private CompletableFuture<TransportResponse> limitedGET(@Nonnull String url, String header, @Nullable CachedResponse<?> previous){
+        String rateLimitKey = RateLimiter.getKey(getRoute(url), null);
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        
+        RATE_LIMITER.acquire(rateLimitKey, rateLimitMode).whenComplete((permit, ex) -> {
+            if(ex != null){
+                future.completeExceptionally(unwrap(ex));
+                return;
+            }
+            
+            if(future.isDone()){
+                permit.run();
+                return;
+            }
+            
+            CompletableFuture<TransportResponse> call = enqueueGET(url, header, previous);
+            future.whenComplete((response, futureEx) -> {
+                if(future.isCancelled())
+                    call.cancel(true);
+            });
+            call.whenComplete((response, callEx) -> {
+                if(callEx instanceof RateLimitedException)
+                    RATE_LIMITER.limit(rateLimitKey, (RateLimitedException)callEx);
                 
-                throw new IOException(String.format(
-                        "Could not retrieve information. The API responded with error code %d (%s).",
-                        response.code(),
-                        response.message()
-                ));
+                permit.run();
+                if(callEx != null)
+                    future.completeExceptionally(callEx);
+                else
+                    future.complete(response);
+            });
+        });
+        
+        return future;
+    }
+    
+    private Runnable awaitPermit(String rateLimitKey) throws IOException{
+        CompletableFuture<Runnable> permit = RATE_LIMITER.acquire(rateLimitKey, rateLimitMode);
+        
+        try{
+            return permit.get();
+        }catch(InterruptedException ex){
+            permit.cancel(true);
+            permit.thenAccept(Runnable::run);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the rate limit of " + rateLimitKey + " to pass");
+        }catch(ExecutionException ex){
+            Throwable cause = unwrap(ex.getCause());
+            if(cause instanceof RuntimeException)
+                throw (RuntimeException)cause;
+            
+            throw new IOException(cause);
+        }
+    }
+    
+    /*
+     * Completes with the response once it is known to be usable: a successful response with a body or a 304 for a
+     * conditional request. An empty body completes with null.
+     */
+    private CompletableFuture<TransportResponse> enqueueGET(@Nonnull String url, String header, @Nullable CachedResponse<?> previous){
+        // A GET only waits for the API itself, so it gets the timeout of a post to a single site.
+        TimeoutSettings settings = timeoutSettings;
+        long millis = settings.getMaxTimeoutPerSite();
+        TransportRequest.Builder builder = new TransportRequest.Builder()
+                .setUrl(url)
+                .setHeader("User-Agent", header)
+                .setTimeout(millis, Math.min(settings.getConnectTimeout(), millis));
+        
+        if(previous != null)
+            previous.addConditionalHeaders(builder);
+        
+        CompletableFuture<TransportResponse> call = transport.send(builder.build());
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        future.whenComplete((response, ex) -> {
+            if(future.isCancelled())
+                call.cancel(true);
+        });
+        
+        call.whenComplete((response, ex) -> {
+            if(ex != null){
+                future.completeExceptionally(unwrap(ex));
+                return;
+            }
+            
+            try{
+                future.complete(response.getCode() == 304 && previous != null ? response : checkResponse(response));
+            }catch(IOException | RuntimeException readEx){
+                future.completeExceptionally(readEx);
+            }
+        });
+        
+        return future;
+    }
+    
+    @Nullable
+    private TransportResponse checkResponse(TransportResponse response) throws IOException{
+        String bodyString = response.getBody();
+        if(bodyString.isEmpty()){
+            logEmptyResponse(response);
+            return null;
+        }
+        
+        if(!response.isSuccessful()){
+            if(response.getCode() == 429){
+                JSONObject errorJson = new JSONObject(bodyString);
+                throw new RateLimitedException(errorJson);
             }
             
-            return new JSONObject(bodyString);
+            throw new IOException(String.format(
+                    "Could not retrieve information. The API responded with error code %d (%s).",
+                    response.getCode(),
+                    response.getMessage()
+            ));
         }
+        
+        return response;
     }
     
-    JSONObject getJson(String key, JSONArray array){
-        JSONObject json = new JSONObject()
-                .put("code", array == null ? "?" : array.get(0))
-                .put("message", array == null ? "?" : array.get(1));
+    private void logEmptyResponse(TransportResponse response){
+        LOG.error("Received empty Response from BotBlock API!");
+        LOG.error(
+                "Response{timestamp={}, protocol={}, code={}, message={}, headers={}}",
+                System.currentTimeMillis(),
+                response.getProtocol(),
+                response.getCode(),
+                response.getMessage(),
+                response.getHeaders()
+        );
+    }
+    
+    /*
+     * Loads a missing entry with a non-blocking request, whose future is shared by all callers of the key. Blocking
+     * callers wait for that future outside of Caffeine, so no cache lock is held while a request is running.
+     * When stale responses may be served is an expired entry refreshed in the background, while the old value is
+     * returned to callers.
+     * Both revalidate the last known response when it has validators and call onUpdate after a successful request.
+     * 
+     * Caffeine doesn't support soft values for async caches, so they are implemented by the stored CachedResponse.
+     */
+    private <M> AsyncLoadingCache<String, CachedResponse<M>> buildCache(CacheSettings cacheSettings, CacheSettings.Endpoint endpoint,
+                                                                   Function<String, String> urlFunction,
+                                                                   Function<JSONObject, M> decoder,
+                                                                   BiConsumer<String, CachedResponse<M>> onUpdate){
+        Cache<String, CachedResponse<M>> expiredResponses = buildExpiredCache(cacheSettings);
+        expiredCaches.add(expiredResponses);
+        
+        Caffeine<Object, Object> builder = newCacheBuilder(cacheSettings);
+        long expireAfter = cacheSettings.getExpireAfter(endpoint);
+        if(expireAfter != CacheSettings.NEVER_EXPIRE){
+            if(cacheSettings.isStaleWhileRevalidate()){
+                builder.refreshAfterWrite(expireAfter, TimeUnit.MILLISECONDS)
+                        .expireAfterWrite(expireAfter + cacheSettings.getMaxStaleness(), TimeUnit.MILLISECONDS);
+            }else{
+                builder.expireAfterWrite(expireAfter, TimeUnit.MILLISECONDS);
+            }
+        }
         
-        return new JSONObject().put(key, json);
+        if(cacheSettings.isRecordStats())
+            builder.recordStats();
+        
+        return builder.evictionListener((String key, CachedResponse<M> response, RemovalCause cause) -> {
+            CachedResponse<M> resolved = resolve(response);
+            if(cause == RemovalCause.EXPIRED && resolved != null && resolved.hasValidators())
+                expiredResponses.put(urlFunction.apply(key), resolved);
+        }).buildAsync(new AsyncCacheLoader<String, CachedResponse<M>>(){
+            @Override
+            public CompletableFuture<CachedResponse<M>> asyncLoad(@Nonnull String key, @Nonnull Executor executor){
+                String url = urlFunction.apply(key);
+                CompletableFuture<CachedResponse<M>> call = performGETAsync(url, userAgent, expiredResponses.getIfPresent(url), decoder);
+                
+                return new SharedLoad<>(call, response -> {
+                    expiredResponses.invalidate(url);
+                    onUpdate.accept(key, response);
+                    return stored(response);
+                });
+            }
+            
+            @Override
+            public CompletableFuture<CachedResponse<M>> asyncReload(@Nonnull String key, @Nonnull CachedResponse<M> oldValue,
+                                                                    @Nonnull Executor executor){
+                return performGETAsync(urlFunction.apply(key), userAgent, oldValue.resolve(), decoder).thenApply(response -> {
+                    if(response == null)
+                        return oldValue;
+                    
+                    onUpdate.accept(key, response);
+                    return stored(response);
+                });
+            }
+        });
+    }
+    
+    // Expired responses are only kept softly, as they are just an optimization for the next request.
+    private <M> Cache<String, CachedResponse<M>> buildExpiredCache(CacheSettings cacheSettings){
+        return newCacheBuilder(cacheSettings)
+                .softValues()
+                .expireAfterWrite(EXPIRED_RESPONSE_LIFETIME, TimeUnit.MINUTES)
+                .build();
+    }
+    
+    private Caffeine<Object, Object> newCacheBuilder(CacheSettings cacheSettings){
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if(cacheSettings.getMaximumWeight() != CacheSettings.UNLIMITED)
+            builder.maximumWeight(cacheSettings.getMaximumWeight())
+                    .weigher(new JsonWeigher());
+        
+        return builder;
+    }
+    
+    /*
+     * Entries of the snapshot are served right away and refreshed in the background, as they may be older than
+     * the usual expiry. The refresh revalidates them, so unchanged lists only cost a 304.
+     */
+    private void loadListSnapshot(){
+        if(listSnapshot == null)
+            return;
+        
+        Map<String, ListSnapshot.Entry> entries = listSnapshot.read();
+        if(entries.isEmpty())
+            return;
+        
+        LOG.debug("Loaded {} cached list responses from snapshot.", entries.size());
+        for(Map.Entry<String, ListSnapshot.Entry> entry : entries.entrySet()){
+            String key = entry.getKey();
+            try{
+                if(key.equals(getListKey(null, false)) || key.equals(getListKey(null, true)))
+                    restore(listsCache, key, entry.getValue().decode(RequestHandler::decodeLists));
+                else
+                    restore(listCache, key, entry.getValue().decode(ListInfo::new));
+            }catch(JSONException ex){
+                LOG.warn("Ignoring the snapshot of {}, as it could not be decoded.", key, ex);
+            }
+        }
+    }
+    
+    private <M> void restore(AsyncLoadingCache<String, CachedResponse<M>> cache, String key, CachedResponse<M> response){
+        listSnapshot.restore(key, response);
+        cache.synchronous().put(key, stored(response));
+        cache.synchronous().refresh(key);
+    }
+    
+    private void writeListSnapshot(String key, CachedResponse<?> response){
+        if(listSnapshot != null)
+            listSnapshot.update(key, response);
+    }
+    
+    private String url(String path){
+        return baseUrl + path;
+    }
+    
+    // The route is the base URL with the first path segment after it, e.g. "https://botblock.org/api/bots".
+    private String getRoute(String url){
+        String base = baseUrl;
+        int end = url.length();
+        for(int i = url.startsWith(base) ? base.length() : 0; i < url.length(); i++){
+            char c = url.charAt(i);
+            if(c == '/' || c == '?'){
+                end = i;
+                break;
+            }
+        }
+        
+        return url.substring(0, end);
+    }
+    
+    // The base URL needs to end with a slash, as the endpoints are appended to it.
+    private static void checkBaseUrl(String baseUrl){
+        CheckUtil.notEmpty(baseUrl, "Base URL");
+        CheckUtil.condition(!baseUrl.endsWith("/"), "The base URL needs to end with a slash!");
+    }
+    
+    private static Throwable unwrap(Throwable ex){
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+    
+    private String getListKey(@Nullable String site, boolean filtered){
+        return "lists" + (site == null ? "" : "/" + site) + (filtered ? "?filter=true" : "");
+    }
+    
+    private <T> T getCachedList(@Nonnull String site, boolean filtered, Function<CachedResponse<ListInfo>, T> mapper,
+                                BiFunction<CachedResponse<Map<String, ListInfo>>, String, T> siteMapper){
+        CachedResponse<ListInfo> response = resolve(listCache.synchronous().getIfPresent(getListKey(site, filtered)));
+        if(response != null)
+            return mapper.apply(response);
+        
+        CachedResponse<Map<String, ListInfo>> lists = resolve(listsCache.synchronous().getIfPresent(getListKey(null, filtered)));
+        if(lists == null)
+            return null;
+        
+        return siteMapper.apply(lists, site);
+    }
+    
+    private static Map<String, ListInfo> decodeLists(JSONObject json){
+        Map<String, ListInfo> lists = new HashMap<>(json.length() * 4 / 3 + 1);
+        for(String site : json.keySet()){
+            JSONObject list = json.optJSONObject(site);
+            if(list != null)
+                lists.put(site.intern(), new ListInfo(list));
+        }
+        
+        return Collections.unmodifiableMap(lists);
+    }
+    
+    // A shared GET request. It gets cancelled once every caller waiting on it cancelled its own future.
+    private static final class InFlight{
+        private final CompletableFuture<TransportResponse> result = new CompletableFuture<>();
+        private int waiters = 0;
+        private boolean cancelled = false;
+        
+        synchronized boolean join(){
+            if(cancelled || result.isDone())
+                return false;
+            
+            waiters++;
+            return true;
+        }
+        
+        synchronized void leave(){
+            if(--waiters > 0 || result.isDone())
+                return;
+            
+            cancelled = true;
+            result.cancel(true);
+        }
+    }
+    
+    /*
+     * A cache load. Its request gets cancelled once every caller waiting on it cancelled its own future.
+     * The load then completes with null, which makes Caffeine drop the entry without logging a failed load.
+     * onSuccess is called once with a non-null response and returns the value the load completes with.
+     * The call is released once it completed, as the load stays in the cache and would keep its response reachable.
+     */
+    private static final class SharedLoad<M> extends CompletableFuture<CachedResponse<M>>{
+        private volatile CompletableFuture<CachedResponse<M>> call;
+        private int waiters = 0;
+        
+        SharedLoad(CompletableFuture<CachedResponse<M>> call, UnaryOperator<CachedResponse<M>> onSuccess){
+            this.call = call;
+            call.whenComplete((response, ex) -> {
+                this.call = null;
+                if(ex != null){
+                    completeExceptionally(ex);
+                    return;
+                }
+                
+                try{
+                    complete(response == null ? null : onSuccess.apply(response));
+                }catch(RuntimeException callbackEx){
+                    completeExceptionally(callbackEx);
+                }
+            });
+        }
+        
+        synchronized boolean attach(){
+            if(isDone())
+                return false;
+            
+            waiters++;
+            return true;
+        }
+        
+        synchronized void detach(){
+            if(--waiters > 0 || isDone())
+                return;
+            
+            CompletableFuture<CachedResponse<M>> call = this.call;
+            complete(null);
+            if(call != null)
+                call.cancel(true);
+        }
+    }
+    
+    private static final class LastPost{
+        private final PostPayload payload;
+        private int skipped = 0;
+        
+        private LastPost(PostPayload payload){
+            this.payload = payload;
+        }
+        
+        private synchronized boolean skip(PostPayload payload, int forcePostInterval){
+            if(skipped + 1 >= forcePostInterval || !this.payload.equals(payload))
+                return false;
+            
+            skipped++;
+            return true;
+        }
     }
 }
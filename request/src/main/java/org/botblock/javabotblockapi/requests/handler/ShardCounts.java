@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/*
+ * The "shards" array of a POST payload, backed by a primitive array.
+ * PostPayload writes the counts as bytes into the request body itself, so they are neither boxed nor turned into a
+ * String first.
+ * equals() compares the counts, which is used to detect unchanged payloads.
+ */
+public final class ShardCounts{
+    
+    private final long[] counts;
+    
+    private ShardCounts(long[] counts){
+        this.counts = counts;
+    }
+    
+    // The array is not copied and should not be modified afterwards.
+    public static ShardCounts of(@Nonnull long[] counts){
+        return new ShardCounts(counts);
+    }
+    
+    public static ShardCounts of(@Nonnull int[] counts){
+        long[] result = new long[counts.length];
+        for(int i = 0; i < counts.length; i++)
+            result[i] = counts[i];
+        
+        return new ShardCounts(result);
+    }
+    
+    public int size(){
+        return counts.length;
+    }
+    
+    public long get(int shard){
+        return counts[shard];
+    }
+    
+    @Override
+    public boolean equals(Object obj){
+        return obj instanceof ShardCounts && Arrays.equals(counts, ((ShardCounts)obj).counts);
+    }
+    
+    @Override
+    public int hashCode(){
+        return Arrays.hashCode(counts);
+    }
+    
+    @Override
+    public String toString(){
+        return Arrays.toString(counts);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.botblock.javabotblockapi.requests.transport.HttpTransport;
+import org.botblock.javabotblockapi.requests.transport.JdkHttpTransport;
+import org.botblock.javabotblockapi.requests.transport.OkHttpTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Cleaner;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/*
+ * Process-wide holder of the HttpTransport used by every RequestHandler without a transport of its own.
+ *
+ * All handlers share a single transport, and with it a single connection pool. It is created on the first acquire
+ * and closed again once the last handler gave up its reference.
+ */
+final class SharedTransport{
+    
+    private static final Logger LOG = LoggerFactory.getLogger("JavaBotBlockAPI - SharedTransport");
+    private static final Cleaner CLEANER = Cleaner.create();
+    
+    private static HttpTransport transport = null;
+    private static int references = 0;
+    
+    private SharedTransport(){}
+    
+    static synchronized HttpTransport acquire(){
+        if(transport == null){
+            transport = createTransport();
+            LOG.debug("Created shared HTTP transport {}.", transport.getClass().getName());
+        }
+        
+        references++;
+        return transport;
+    }
+    
+    static synchronized void release(){
+        if(references <= 0)
+            return;
+        
+        if(--references > 0)
+            return;
+        
+        transport.close();
+        transport = null;
+        LOG.debug("Released shared HTTP transport.");
+    }
+    
+    /*
+     * A registered service is preferred. Otherwise OkHttp is used when it's available, so that it can be excluded
+     * from the dependencies to use the HttpClient of the JDK.
+     * OkHttpTransport is only loaded in its branch, as loading it without OkHttp would fail.
+     */
+    private static HttpTransport createTransport(){
+        try{
+            Iterator<HttpTransport> services = ServiceLoader.load(HttpTransport.class, SharedTransport.class.getClassLoader()).iterator();
+            if(services.hasNext())
+                return services.next();
+        }catch(ServiceConfigurationError ex){
+            LOG.warn("Couldn't load the registered HttpTransport. Using the default one.", ex);
+        }
+        
+        if(isOkHttpAvailable())
+            return new OkHttpTransport();
+        
+        return new JdkHttpTransport();
+    }
+    
+    private static boolean isOkHttpAvailable(){
+        try{
+            Class.forName("okhttp3.OkHttpClient", false, SharedTransport.class.getClassLoader());
+            return true;
+        }catch(ClassNotFoundException | LinkageError ex){
+            return false;
+        }
+    }
+    
+    /*
+     * Acquires the transport on behalf of the provided owner. The reference is given back on close(), or at the latest
+     * once the owner became unreachable.
+     */
+    static Lease lease(Object owner){
+        return new Lease(owner);
+    }
+    
+    static final class Lease{
+        private final HttpTransport transport;
+        private final Cleaner.Cleanable cleanable;
+        
+        private Lease(Object owner){
+            this.transport = acquire();
+            this.cleanable = CLEANER.register(owner, SharedTransport::release);
+        }
+        
+        HttpTransport getTransport(){
+            return transport;
+        }
+        
+        void close(){
+            cleanable.clean();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.botblock.javabotblockapi.requests.objects.PostResult;
+import org.botblock.javabotblockapi.requests.objects.SiteResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Circuit breaker per site, fed by the results of posts.
+ *
+ * A site that failed the configured amount of posts in a row gets its circuit opened and is left out of the payloads.
+ * Once the open time passed, the circuit is half-open and the site is included in the next post as probe: Accepting
+ * the post closes the circuit, failing it opens the circuit again.
+ */
+final class SiteHealth{
+    
+    private final Logger LOG = LoggerFactory.getLogger("JavaBotBlockAPI - SiteHealth");
+    private final Map<String, Circuit> circuits = new HashMap<>();
+    
+    // Returns the sites to leave out of the next post. If that would be all of them, none are left out.
+    synchronized Set<String> getExcluded(Collection<String> sites, long openTime){
+        if(circuits.isEmpty())
+            return Collections.emptySet();
+        
+        long now = now();
+        Set<String> excluded = new HashSet<>();
+        for(String site : sites){
+            Circuit circuit = circuits.get(site);
+            if(circuit == null || !circuit.open)
+                continue;
+            
+            if(now - circuit.openedAt >= openTime){
+                circuit.halfOpen = true;
+                continue;
+            }
+            
+            excluded.add(site);
+        }
+        
+        return excluded.size() == sites.size() ? Collections.emptySet() : excluded;
+    }
+    
+    synchronized void record(PostResult result, int failureThreshold){
+        for(SiteResult siteResult : result.getSiteResults().values()){
+            String site = siteResult.getSite();
+            if(siteResult.isSuccess()){
+                Circuit circuit = circuits.remove(site);
+                if(circuit != null && circuit.open)
+                    LOG.info("Site {} accepted a post again and is no longer left out.", site);
+                
+                continue;
+            }
+            
+            Circuit circuit = circuits.computeIfAbsent(site, k -> new Circuit());
+            circuit.failures++;
+            if(circuit.halfOpen || (!circuit.open && circuit.failures >= failureThreshold)){
+                circuit.open = true;
+                circuit.openedAt = now();
+                circuit.halfOpen = false;
+                LOG.info("Site {} failed {} posts in a row and is left out of the next posts.", site, circuit.failures);
+            }
+        }
+    }
+    
+    private static long now(){
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+    
+    private static final class Circuit{
+        private int failures = 0;
+        private boolean open = false;
+        private long openedAt = 0;
+        private boolean halfOpen = false;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/*
+ * Creates the threads blocking work runs on: the auto-post tasks of the PostScheduler and the HTTP calls of the
+ * transports.
+ *
+ * Virtual threads are used when enabled with -Djavabotblockapi.virtualThreads=true and supported by the JVM (Java 21+).
+ * They are looked up through reflection, so the library still compiles and runs on Java 11. Without them, or when
+ * they aren't supported, platform threads are used like before.
+ */
+public final class Threads{
+    
+    public static final String VIRTUAL_THREADS_PROPERTY = "javabotblockapi.virtualThreads";
+    
+    private static final Logger LOG = LoggerFactory.getLogger("JavaBotBlockAPI - Threads");
+    private static final ThreadFactory VIRTUAL_FACTORY = createVirtualFactory();
+    
+    private Threads(){}
+    
+    public static boolean isVirtual(){
+        return VIRTUAL_FACTORY != null;
+    }
+    
+    // Returns null without virtual threads, in which case the callers keep their own executor.
+    @Nullable
+    public static ExecutorService newExecutor(){
+        if(VIRTUAL_FACTORY == null)
+            return null;
+        
+        try{
+            return (ExecutorService)Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, VIRTUAL_FACTORY);
+        }catch(ReflectiveOperationException ex){
+            return Executors.newCachedThreadPool(VIRTUAL_FACTORY);
+        }
+    }
+    
+    @Nullable
+    private static ThreadFactory createVirtualFactory(){
+        if(!Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY))
+            return null;
+        
+        try{
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "JavaBotBlockAPI-", 0L);
+            
+            ThreadFactory factory = (ThreadFactory)builderClass.getMethod("factory").invoke(builder);
+            LOG.debug("Using virtual threads for blocking requests and auto-posts.");
+            return factory;
+        }catch(ReflectiveOperationException | RuntimeException ex){
+            LOG.warn("Virtual threads were enabled through {}, but aren't supported by this JVM. Using platform threads.",
+                    VIRTUAL_THREADS_PROPERTY);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.objects;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Immutable information of a bot, as returned by the
+ * <a href="https://botblock.org/api/docs#bots" target="_blank">{@code /api/bots/:id}</a> endpoint.
+ *
+ * <p>Instances are received through {@link org.botblock.javabotblockapi.requests.GetBotAction#getBot(String) GetBotAction.getBot(String)}.
+ * <br>The response is only parsed once and the instance is cached together with it, so the getters of this class
+ * don't perform any further parsing.
+ *
+ * @since 6.8.0
+ */
+public class BotInfo{
+    private final String id;
+    private final String name;
+    private final String discriminator;
+    private final List<String> owners;
+    private final int serverCount;
+    private final String invite;
+    private final String prefix;
+    private final String website;
+    private final String github;
+    private final String support;
+    private final String library;
+    private final Map<String, ListData> listData;
+    
+    /**
+     * Creates a new instance from the provided JSON.
+     * <br>Missing values are {@code null}, or {@code 0} for the server count.
+     *
+     * @param json
+     *        The {@link org.json.JSONObject JSONObject} received from the BotBlock API.
+     */
+    public BotInfo(@Nonnull JSONObject json){
+        this.id = json.optString("id", null);
+        this.name = json.optString("username", null);
+        this.discriminator = json.optString("discriminator", null);
+        this.serverCount = json.optInt("server_count", 0);
+        this.invite = json.optString("invite", null);
+        this.prefix = json.optString("prefix", null);
+        this.website = json.optString("website", null);
+        this.github = json.optString("github", null);
+        this.support = json.optString("support", null);
+        this.library = json.optString("library", null);
+        
+        JSONArray ownersArray = json.optJSONArray("owners");
+        if(ownersArray == null || ownersArray.isEmpty()){
+            this.owners = Collections.emptyList();
+        }else{
+            String[] ownerIds = new String[ownersArray.length()];
+            for(int i = 0; i < ownerIds.length; i++)
+                ownerIds[i] = ownersArray.getString(i);
+            
+            this.owners = Collections.unmodifiableList(Arrays.asList(ownerIds));
+        }
+        
+        JSONObject listDataJson = json.optJSONObject("list_data");
+        if(listDataJson == null || listDataJson.isEmpty()){
+            this.listData = Collections.emptyMap();
+        }else{
+            Map<String, ListData> data = new HashMap<>(listDataJson.length() * 4 / 3 + 1);
+            for(String site : listDataJson.keySet()){
+                ListData siteData = new ListData(site, listDataJson.optJSONArray(site));
+                data.put(siteData.getSite(), siteData);
+            }
+            
+            this.listData = Collections.unmodifiableMap(data);
+        }
+    }
+    
+    /**
+     * The id of the bot.
+     *
+     * @return Possibly-null String containing the id of the bot.
+     */
+    @Nullable
+    public String getId(){
+        return id;
+    }
+    
+    /**
+     * The name of the bot.
+     * <br>The name is based on the most common appearance of it.
+     *
+     * @return Possibly-null String containing the name of the bot.
+     */
+    @Nullable
+    public String getName(){
+        return name;
+    }
+    
+    /**
+     * The discriminator of the bot.
+     * <br>The discriminator is based on the most common appearance of it.
+     *
+     * @return Possibly-null String containing the discriminator of the bot.
+     */
+    @Nullable
+    public String getDiscriminator(){
+        return discriminator;
+    }
+    
+    /**
+     * The ids of the owners of the bot.
+     * <br>The owners are based on the most common appearance of them.
+     *
+     * @return Unmodifiable, possibly-empty List containing the ids of the owners.
+     */
+    @Nonnull
+    public List<String> getOwners(){
+        return owners;
+    }
+    
+    /**
+     * The server count of the bot.
+     * <br>The server count is based on the most common appearance of it.
+     *
+     * @return The server count of the bot.
+     */
+    public int getServerCount(){
+        return serverCount;
+    }
+    
+    /**
+     * The OAuth invite link of the bot.
+     *
+     * @return Possibly-null or possibly-empty String containing the OAuth invite link.
+     */
+    @Nullable
+    public String getOAuthInvite(){
+        return invite;
+    }
+    
+    /**
+     * The prefix of the bot.
+     *
+     * @return Possibly-null or possibly-empty String containing the prefix of the bot.
+     */
+    @Nullable
+    public String getPrefix(){
+        return prefix;
+    }
+    
+    /**
+     * The website of the bot.
+     *
+     * @return Possibly-null or possibly-empty String containing the website of the bot.
+     */
+    @Nullable
+    public String getWebsite(){
+        return website;
+    }
+    
+    /**
+     * The GitHub link of the bot.
+     *
+     * @return Possibly-null or possibly-empty String containing the GitHub link of the bot.
+     */
+    @Nullable
+    public String getGitHub(){
+        return github;
+    }
+    
+    /**
+     * The support link (i.e. a Discord invite) of the bot.
+     *
+     * @return Possibly-null or possibly-empty String containing the support link of the bot.
+     */
+    @Nullable
+    public String getSupportLink(){
+        return support;
+    }
+    
+    /**
+     * The library of the bot.
+     *
+     * @return Possibly-null or possibly-empty String containing the library of the bot.
+     */
+    @Nullable
+    public String getLibrary(){
+        return library;
+    }
+    
+    /**
+     * The information the different bot lists returned for this bot, mapped by the id of the bot list.
+     *
+     * @return Unmodifiable, possibly-empty Map containing the {@link org.botblock.javabotblockapi.requests.objects.ListData ListData}
+     *         of each bot list.
+     */
+    @Nonnull
+    public Map<String, ListData> getListData(){
+        return listData;
+    }
+    
+    /**
+     * The information the provided bot list returned for this bot.
+     *
+     * @param  site
+     *         The id of the bot list.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.ListData ListData} of the bot list.
+     */
+    @Nullable
+    public ListData getListData(@Nonnull String site){
+        return listData.get(site);
+    }
+    
+    /**
+     * Returns this class formatted to a String.
+     *
+     * @return {@code BotInfo{id=<id>, name=<name>, discriminator=<discriminator>, serverCount=<serverCount>}}
+     */
+    @Override
+    public String toString(){
+        return "BotInfo{"
+                + "id=" + id + ", "
+                + "name=" + name + ", "
+                + "discriminator=" + discriminator + ", "
+                + "serverCount=" + serverCount
+                + "}";
+    }
+}
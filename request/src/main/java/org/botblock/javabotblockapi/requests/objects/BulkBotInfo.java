@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of a bulk lookup of bots through
+ * {@link org.botblock.javabotblockapi.requests.GetBotAction#getBotInfos(java.util.Collection) GetBotAction.getBotInfos(Collection)}.
+ * <br>Contains the {@link org.botblock.javabotblockapi.requests.objects.BotInfo BotInfo} of every bot that could be
+ * received and the exception of every bot that could not be received, both in the order of the requested ids.
+ *
+ * @since 6.8.0
+ */
+public class BulkBotInfo{
+    private final Map<String, BotInfo> botInfos;
+    private final Map<String, Throwable> failures;
+    
+    /**
+     * Creates a new instance with the provided results.
+     *
+     * @param botInfos
+     *        The received BotInfo mapped by the id of the bot.
+     * @param failures
+     *        The exception of each failed lookup mapped by the id of the bot.
+     */
+    public BulkBotInfo(@Nonnull Map<String, BotInfo> botInfos, @Nonnull Map<String, Throwable> failures){
+        this.botInfos = Collections.unmodifiableMap(new LinkedHashMap<>(botInfos));
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+    
+    /**
+     * The information of all bots that could be received, mapped by their id.
+     *
+     * @return Unmodifiable, possibly-empty Map containing the {@link org.botblock.javabotblockapi.requests.objects.BotInfo BotInfo}
+     *         of each bot.
+     */
+    @Nonnull
+    public Map<String, BotInfo> getBotInfos(){
+        return botInfos;
+    }
+    
+    /**
+     * The information of the bot with the provided id.
+     *
+     * @param  id
+     *         The id of the bot.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.BotInfo BotInfo} of the bot.
+     */
+    @Nullable
+    public BotInfo getBotInfo(@Nonnull String id){
+        return botInfos.get(id);
+    }
+    
+    /**
+     * The exceptions of all bots that could not be received, mapped by their id.
+     * <br>A bot whose response was empty is listed with an {@link java.io.IOException IOException}.
+     *
+     * @return Unmodifiable, possibly-empty Map containing the exception of each failed bot.
+     */
+    @Nonnull
+    public Map<String, Throwable> getFailures(){
+        return failures;
+    }
+    
+    /**
+     * Whether the information of at least one bot could not be received.
+     *
+     * @return {@code true} if there are failures, {@code false} otherwise.
+     */
+    public boolean hasFailures(){
+        return !failures.isEmpty();
+    }
+    
+    /**
+     * Returns this class formatted to a String.
+     *
+     * @return {@code BulkBotInfo{botInfos=<amount>, failures=<ids>}}
+     */
+    @Override
+    public String toString(){
+        return "BulkBotInfo{"
+                + "botInfos=" + botInfos.size() + ", "
+                + "failures=" + failures.keySet()
+                + "}";
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.objects;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable information a single bot list returned for a bot.
+ * <br>The content of {@link #getData() the data} is entirely dependant on the bot list itself and is therefore unique.
+ *
+ * <p>Instances are received through {@link org.botblock.javabotblockapi.requests.objects.BotInfo#getListData(String) BotInfo.getListData(String)}.
+ *
+ * @since 6.8.0
+ */
+public class ListData{
+    private final String site;
+    private final Map<String, Object> data;
+    private final int statusCode;
+    
+    /**
+     * Creates a new instance from the provided JSON.
+     * <br>The BotBlock API provides the data of each bot list as array, containing the returned JSON and the HTTP
+     * status code of the request.
+     *
+     * @param site
+     *        The id of the bot list.
+     * @param json
+     *        The possibly-null {@link org.json.JSONArray JSONArray} received from the BotBlock API.
+     */
+    public ListData(@Nonnull String site, @Nullable JSONArray json){
+        this.site = site.intern();
+        
+        JSONObject dataJson = json == null ? null : json.optJSONObject(0);
+        this.data = dataJson == null || dataJson.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(dataJson.toMap());
+        this.statusCode = json == null ? -1 : json.optInt(1, -1);
+    }
+    
+    /**
+     * The id of the bot list.
+     *
+     * @return String containing the id of the bot list.
+     */
+    @Nonnull
+    public String getSite(){
+        return site;
+    }
+    
+    /**
+     * The data the bot list returned for the bot.
+     * <br>Nested JSON objects and arrays are represented as Maps and Lists.
+     *
+     * @return Unmodifiable, possibly-empty Map containing the data of the bot list.
+     */
+    @Nonnull
+    public Map<String, Object> getData(){
+        return data;
+    }
+    
+    /**
+     * The HTTP status code the bot list responded with.
+     *
+     * @return The HTTP status code or {@code -1} if none was provided.
+     */
+    public int getStatusCode(){
+        return statusCode;
+    }
+    
+    /**
+     * Returns this class formatted to a String.
+     *
+     * @return {@code ListData{site=<site>, statusCode=<statusCode>}}
+     */
+    @Override
+    public String toString(){
+        return "ListData{"
+                + "site=" + site + ", "
+                + "statusCode=" + statusCode
+                + "}";
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.objects;
+
+import org.botblock.javabotblockapi.requests.GetListAction;
+import org.json.JSONObject;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Immutable information of a bot list, as returned by the
+ * <a href="https://botblock.org/api/docs#list" target="_blank">{@code /api/lists/:id}</a> endpoint or as part of the
+ * <a href="https://botblock.org/api/docs#lists" target="_blank">{@code /api/lists}</a> endpoint.
+ *
+ * <p>Instances are received through {@link org.botblock.javabotblockapi.requests.GetListAction#getListInfo(String, String) GetListAction.getListInfo(String, String)}
+ * and {@link org.botblock.javabotblockapi.requests.GetListAction#getListInfos(String) GetListAction.getListInfos(String)}.
+ * <br>The response is only parsed once and the instance is cached together with it, so the getters of this class
+ * don't perform any further parsing.
+ *
+ * <p>The features of a bot list are not part of this class. Use
+ * {@link org.botblock.javabotblockapi.requests.GetListAction#getFeatures(String, String) GetListAction.getFeatures(String, String)}
+ * to get them.
+ *
+ * @since 6.8.0
+ */
+public class ListInfo{
+    private static final GetListAction.ApiField[] API_FIELDS = GetListAction.ApiField.values();
+    
+    private final String id;
+    private final String name;
+    private final int added;
+    private final String url;
+    private final String icon;
+    private final String language;
+    private final String description;
+    private final String discordInvite;
+    private final String botWidgetUrl;
+    private final String owners;
+    private final boolean defunct;
+    private final boolean discordOnly;
+    private final String[] apiFields;
+    
+    /**
+     * Creates a new instance from the provided JSON.
+     * <br>Missing values are {@code null}, {@code 0} for the time added or {@code false}.
+     *
+     * @param json
+     *        The {@link org.json.JSONObject JSONObject} of a single bot list received from the BotBlock API.
+     */
+    public ListInfo(@Nonnull JSONObject json){
+        String listId = json.optString("id", null);
+        
+        this.id = listId == null ? null : listId.intern();
+        this.name = json.optString("name", null);
+        this.added = json.optInt("added", 0);
+        this.url = json.optString("url", null);
+        this.icon = json.optString("icon", null);
+        this.language = json.optString("language", null);
+        this.description = json.optString("description", null);
+        this.discordInvite = json.optString("discord", null);
+        this.botWidgetUrl = json.optString("bot_widget", null);
+        this.owners = json.optString("owners", null);
+        this.defunct = json.optInt("defunct", 0) == 1;
+        this.discordOnly = json.optInt("discord_only", 0) == 1;
+        
+        this.apiFields = new String[API_FIELDS.length];
+        for(GetListAction.ApiField field : API_FIELDS)
+            apiFields[field.ordinal()] = json.optString(field.getApiField(), null);
+    }
+    
+    /**
+     * The id of the bot list.
+     *
+     * @return Possibly-null String containing the id of the bot list.
+     */
+    @Nullable
+    public String getId(){
+        return id;
+    }
+    
+    /**
+     * The name of the bot list.
+     *
+     * @return Possibly-null String containing the name of the bot list.
+     */
+    @Nullable
+    public String getName(){
+        return name;
+    }
+    
+    /**
+     * The UNIX timestamp of when the bot list was added to BotBlock.
+     *
+     * @return The UNIX timestamp of when the bot list was added.
+     */
+    public int getTimeAdded(){
+        return added;
+    }
+    
+    /**
+     * The URL of the bot list.
+     *
+     * @return Possibly-null String containing the URL of the bot list.
+     */
+    @Nullable
+    public String getUrl(){
+        return url;
+    }
+    
+    /**
+     * The URL of the icon of the bot list.
+     *
+     * @return Possibly-null String containing the icon URL.
+     */
+    @Nullable
+    public String getIcon(){
+        return icon;
+    }
+    
+    /**
+     * The primary language of the bot list.
+     *
+     * @return Possibly-null String containing the language of the bot list.
+     */
+    @Nullable
+    public String getLanguage(){
+        return language;
+    }
+    
+    /**
+     * The description of the bot list.
+     *
+     * @return Possibly-null String containing the description of the bot list.
+     */
+    @Nullable
+    public String getDescription(){
+        return description;
+    }
+    
+    /**
+     * The invite to the Discord server of the bot list.
+     *
+     * @return Possibly-null String containing the Discord invite.
+     */
+    @Nullable
+    public String getDiscordInvite(){
+        return discordInvite;
+    }
+    
+    /**
+     * The URL used to display a widget of a bot.
+     *
+     * @return Possibly-null String containing the widget URL.
+     */
+    @Nullable
+    public String getBotWidgetUrl(){
+        return botWidgetUrl;
+    }
+    
+    /**
+     * The owners of the bot list, as provided by the BotBlock API.
+     *
+     * @return Possibly-null String containing the owners of the bot list.
+     */
+    @Nullable
+    public String getOwners(){
+        return owners;
+    }
+    
+    /**
+     * Whether the bot list is defunct.
+     *
+     * @return {@code true} if the bot list is defunct, {@code false} otherwise.
+     */
+    public boolean isDefunct(){
+        return defunct;
+    }
+    
+    /**
+     * Whether the bot list is only for Discord bots.
+     *
+     * @return {@code true} if the bot list is only for Discord bots, {@code false} otherwise.
+     */
+    public boolean isDiscordOnly(){
+        return discordOnly;
+    }
+    
+    /**
+     * The value of the provided API field.
+     *
+     * @param  field
+     *         The {@link org.botblock.javabotblockapi.requests.GetListAction.ApiField ApiField} to get the value from.
+     *
+     * @return Possibly-null String containing the value of the API field.
+     */
+    @Nullable
+    public String getApiField(@Nonnull GetListAction.ApiField field){
+        return apiFields[field.ordinal()];
+    }
+    
+    /**
+     * Returns this class formatted to a String.
+     *
+     * @return {@code ListInfo{id=<id>, name=<name>, defunct=<defunct>}}
+     */
+    @Override
+    public String toString(){
+        return "ListInfo{"
+                + "id=" + id + ", "
+                + "name=" + name + ", "
+                + "defunct=" + defunct
+                + "}";
+    }
+}
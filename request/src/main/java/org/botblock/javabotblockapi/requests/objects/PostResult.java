@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.objects;
+
+import org.botblock.javabotblockapi.core.exceptions.RateLimitedException;
+import org.json.JSONObject;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of posting the stats of a bot through one of the PostAction classes.
+ * <br>Contains the {@link org.botblock.javabotblockapi.requests.objects.SiteResult SiteResult} of every bot list,
+ * how long the post took and - for results of the auto-post tasks - whether the post was rate limited.
+ *
+ * @since 6.8.0
+ */
+public class PostResult{
+    private final Map<String, SiteResult> siteResults;
+    private final Map<String, SiteResult> failures;
+    private final long latency;
+    private final RateLimitedException rateLimit;
+    
+    /**
+     * Creates a new instance from the provided JSON.
+     *
+     * @param json
+     *        The {@link org.json.JSONObject JSONObject} received from the BotBlock API.
+     * @param latency
+     *        The time in milliseconds the post took.
+     */
+    public PostResult(@Nonnull JSONObject json, long latency){
+        Map<String, SiteResult> siteResults = new LinkedHashMap<>();
+        Map<String, SiteResult> failures = new LinkedHashMap<>();
+        
+        JSONObject success = json.optJSONObject("success");
+        if(success != null){
+            for(String site : success.keySet())
+                siteResults.put(site, new SiteResult(site, true, success.optJSONArray(site)));
+        }
+        
+        JSONObject failure = json.optJSONObject("failure");
+        if(failure != null){
+            for(String site : failure.keySet()){
+                SiteResult result = new SiteResult(site, false, failure.optJSONArray(site));
+                siteResults.put(site, result);
+                failures.put(site, result);
+            }
+        }
+        
+        this.siteResults = Collections.unmodifiableMap(siteResults);
+        this.failures = Collections.unmodifiableMap(failures);
+        this.latency = latency;
+        this.rateLimit = null;
+    }
+    
+    /**
+     * Creates a new instance for a post that was rate limited.
+     *
+     * @param rateLimit
+     *        The {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RateLimitedException} the post failed with.
+     */
+    public PostResult(@Nonnull RateLimitedException rateLimit){
+        this.siteResults = Collections.emptyMap();
+        this.failures = Collections.emptyMap();
+        this.latency = -1;
+        this.rateLimit = rateLimit;
+    }
+    
+    /**
+     * Whether the post was accepted by every bot list and wasn't rate limited.
+     *
+     * @return {@code true} if the post was successful, {@code false} otherwise.
+     */
+    public boolean isSuccess(){
+        return rateLimit == null && failures.isEmpty();
+    }
+    
+    /**
+     * The results of all bot lists, mapped by their id.
+     *
+     * @return Unmodifiable, possibly-empty Map containing the {@link org.botblock.javabotblockapi.requests.objects.SiteResult SiteResult}
+     *         of each bot list.
+     */
+    @Nonnull
+    public Map<String, SiteResult> getSiteResults(){
+        return siteResults;
+    }
+    
+    /**
+     * The result of the bot list with the provided id.
+     *
+     * @param  site
+     *         The id of the bot list.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.requests.objects.SiteResult SiteResult} of the bot list.
+     */
+    @Nullable
+    public SiteResult getSiteResult(@Nonnull String site){
+        return siteResults.get(site);
+    }
+    
+    /**
+     * The results of all bot lists that didn't accept the post, mapped by their id.
+     *
+     * @return Unmodifiable, possibly-empty Map containing the {@link org.botblock.javabotblockapi.requests.objects.SiteResult SiteResult}
+     *         of each failed bot list.
+     */
+    @Nonnull
+    public Map<String, SiteResult> getFailures(){
+        return failures;
+    }
+    
+    /**
+     * Whether at least one bot list didn't accept the post.
+     *
+     * @return {@code true} if there are failures, {@code false} otherwise.
+     */
+    public boolean hasFailures(){
+        return !failures.isEmpty();
+    }
+    
+    /**
+     * The time in milliseconds the post took.
+     * <br>Returns {@code -1} when the post was rate limited.
+     *
+     * @return The time the post took in milliseconds or {@code -1}.
+     */
+    public long getLatency(){
+        return latency;
+    }
+    
+    /**
+     * Whether the post was rate limited.
+     *
+     * @return {@code true} if the post was rate limited, {@code false} otherwise.
+     */
+    public boolean isRateLimited(){
+        return rateLimit != null;
+    }
+    
+    /**
+     * The exception the post failed with, if it was rate limited.
+     * <br>It contains how long to wait until the next post may be performed.
+     *
+     * @return Possibly-null {@link org.botblock.javabotblockapi.core.exceptions.RateLimitedException RateLimitedException}.
+     */
+    @Nullable
+    public RateLimitedException getRateLimit(){
+        return rateLimit;
+    }
+    
+    /**
+     * Returns this class formatted to a String.
+     *
+     * @return {@code PostResult{sites=<amount>, failures=<sites>, latency=<latency>, rateLimited=<rateLimited>}}
+     */
+    @Override
+    public String toString(){
+        return "PostResult{"
+                + "sites=" + siteResults.size() + ", "
+                + "failures=" + failures.keySet() + ", "
+                + "latency=" + latency + ", "
+                + "rateLimited=" + isRateLimited()
+                + "}";
+    }
+}
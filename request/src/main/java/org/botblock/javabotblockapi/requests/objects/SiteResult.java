@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.objects;
+
+import org.json.JSONArray;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Immutable result of posting the stats to a single bot list.
+ *
+ * <p>Instances are received through {@link org.botblock.javabotblockapi.requests.objects.PostResult PostResult}.
+ *
+ * @since 6.8.0
+ */
+public class SiteResult{
+    private final String site;
+    private final boolean success;
+    private final int code;
+    private final String message;
+    
+    /**
+     * Creates a new instance from the provided JSON.
+     * <br>The BotBlock API provides the result of each bot list as array, containing the HTTP status code and the
+     * response of the bot list.
+     *
+     * @param site
+     *        The id of the bot list.
+     * @param success
+     *        Whether the BotBlock API listed the bot list as successful.
+     * @param json
+     *        The possibly-null {@link org.json.JSONArray JSONArray} received from the BotBlock API.
+     */
+    public SiteResult(@Nonnull String site, boolean success, @Nullable JSONArray json){
+        this.site = site.intern();
+        this.success = success;
+        this.code = json == null ? -1 : json.optInt(0, -1);
+        this.message = json == null ? null : json.optString(1, null);
+    }
+    
+    /**
+     * The id of the bot list.
+     *
+     * @return String containing the id of the bot list.
+     */
+    @Nonnull
+    public String getSite(){
+        return site;
+    }
+    
+    /**
+     * Whether the bot list accepted the posted stats.
+     *
+     * @return {@code true} if the post was successful, {@code false} otherwise.
+     */
+    public boolean isSuccess(){
+        return success;
+    }
+    
+    /**
+     * The HTTP status code the bot list responded with.
+     * <br>When no code was provided by the BotBlock API will {@code -1} be returned.
+     *
+     * @return The HTTP status code or {@code -1}.
+     */
+    public int getCode(){
+        return code;
+    }
+    
+    /**
+     * The response of the bot list, which is either the returned body or an error message.
+     *
+     * @return Possibly-null String containing the response of the bot list.
+     */
+    @Nullable
+    public String getMessage(){
+        return message;
+    }
+    
+    /**
+     * Returns this class formatted to a String.
+     *
+     * @return {@code SiteResult{site=<site>, success=<success>, code=<code>, message=<message>}}
+     */
+    @Override
+    public String toString(){
+        return "SiteResult{"
+                + "site=" + site + ", "
+                + "success=" + success + ", "
+                + "code=" + code + ", "
+                + "message=" + message
+                + "}";
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.transport;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * The HTTP client used to send the requests towards the BotBlock API.
+ *
+ * <p>JavaBotBlockAPI comes with an {@link org.botblock.javabotblockapi.requests.transport.OkHttpTransport OkHttp} and a
+ * {@link org.botblock.javabotblockapi.requests.transport.JdkHttpTransport java.net.http} implementation.
+ * <br>The transport shared by all actions is chosen on their first request:
+ * <ol>
+ *     <li>The first implementation registered as service in a
+ *     {@code META-INF/services/org.botblock.javabotblockapi.requests.transport.HttpTransport} file.</li>
+ *     <li>The {@link org.botblock.javabotblockapi.requests.transport.OkHttpTransport OkHttpTransport}, when OkHttp is
+ *     available.</li>
+ *     <li>The {@link org.botblock.javabotblockapi.requests.transport.JdkHttpTransport JdkHttpTransport} otherwise.</li>
+ * </ol>
+ * The transport is closed again once no action uses it anymore.
+ *
+ * <p>Implementations need to be thread-safe and report timed out requests as {@link java.io.InterruptedIOException InterruptedIOException},
+ * e.g. a {@link java.net.SocketTimeoutException SocketTimeoutException}. Services also need a public no-args constructor.
+ *
+ * @since 6.8.0
+ */
+public interface HttpTransport extends AutoCloseable{
+    
+    /**
+     * Sends the provided request without blocking.
+     * <br>The returned CompletableFuture completes exceptionally with an {@link java.io.IOException IOException} when
+     * the request failed, and cancelling it should also cancel the request.
+     *
+     * @param  request
+     *         The {@link org.botblock.javabotblockapi.requests.transport.TransportRequest TransportRequest} to send.
+     *
+     * @return CompletableFuture containing the {@link org.botblock.javabotblockapi.requests.transport.TransportResponse TransportResponse}.
+     */
+    CompletableFuture<TransportResponse> send(@Nonnull TransportRequest request);
+    
+    /**
+     * Sends the provided request and blocks until the response was received.
+     * <br>By default is this waiting on {@link #send(TransportRequest) send(TransportRequest)}. Implementations may
+     * override it to perform the request on the calling thread.
+     *
+     * <p>Following Exceptions can be thrown from the HTTP request:
+     * <ul>
+     *     <li>{@link java.io.InterruptedIOException InterruptedIOException} - When the request timed out or the thread got interrupted.</li>
+     *     <li>{@link java.io.IOException IOException} - When the request failed.</li>
+     * </ul>
+     *
+     * @param  request
+     *         The {@link org.botblock.javabotblockapi.requests.transport.TransportRequest TransportRequest} to send.
+     *
+     * @return The received {@link org.botblock.javabotblockapi.requests.transport.TransportResponse TransportResponse}.
+     *
+     * @throws IOException When the request failed or timed out.
+     */
+    default TransportResponse execute(@Nonnull TransportRequest request) throws IOException{
+        CompletableFuture<TransportResponse> future = send(request);
+        
+        try{
+            return future.get();
+        }catch(InterruptedException ex){
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a response from " + request.getUrl());
+        }catch(ExecutionException ex){
+            Throwable cause = ex.getCause() instanceof CompletionException && ex.getCause().getCause() != null
+                    ? ex.getCause().getCause()
+                    : ex.getCause();
+            if(cause instanceof IOException)
+                throw (IOException)cause;
+            if(cause instanceof RuntimeException)
+                throw (RuntimeException)cause;
+            
+            throw new IOException(cause);
+        }
+    }
+    
+    /**
+     * Releases the resources of this transport, like its threads and pooled connections.
+     */
+    @Override
+    void close();
+}
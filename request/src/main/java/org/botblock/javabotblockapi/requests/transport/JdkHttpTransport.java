@@ -0,0 +1,239 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.transport;
+
+import org.botblock.javabotblockapi.requests.TimeoutSettings;
+import org.botblock.javabotblockapi.requests.handler.Threads;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * {@link org.botblock.javabotblockapi.requests.transport.HttpTransport HttpTransport} using the
+ * {@link java.net.http.HttpClient HttpClient} of the JDK, which doesn't need any further dependencies.
+ * <br>Requests use HTTP/2 when the API supports it.
+ *
+ * <p>When virtual threads are enabled with {@code -Djavabotblockapi.virtualThreads=true} and supported by the JVM, does
+ * the created HttpClient run its tasks on them.
+ *
+ * <p>The timeout of a request also covers connecting to the API. The connect timeout of the HttpClient can't be changed
+ * for a single request, so a transport created by {@link #JdkHttpTransport() JdkHttpTransport()} keeps an HttpClient per
+ * {@link org.botblock.javabotblockapi.requests.TimeoutSettings#getConnectTimeout() connect timeout} that is lower than
+ * the timeout of its requests. Connect timeouts of requests sent with a provided HttpClient are ignored.
+ * <br>Requests without a timeout use
+ * {@link org.botblock.javabotblockapi.requests.TimeoutSettings#DEFAULT_MAX_TIMEOUT_PER_SITE TimeoutSettings.DEFAULT_MAX_TIMEOUT_PER_SITE},
+ * as the HttpClient would otherwise wait for a response forever.
+ *
+ * @since 6.8.0
+ */
+public final class JdkHttpTransport implements HttpTransport{
+    
+    private final HttpClient client;
+    private final ConcurrentMap<Long, HttpClient> connectClients = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final boolean owned;
+    
+    /**
+     * Creates a new transport with its own HttpClient.
+     */
+    public JdkHttpTransport(){
+        this.executor = Threads.newExecutor();
+        this.client = newClient(null);
+        this.owned = true;
+    }
+    
+    /**
+     * Creates a new transport using the provided HttpClient.
+     * <br>The provided client isn't closed on {@link #close() close()}.
+     *
+     * @param client
+     *        The HttpClient to use.
+     */
+    public JdkHttpTransport(@Nonnull HttpClient client){
+        this.client = client;
+        this.executor = null;
+        this.owned = false;
+    }
+    
+    @Override
+    public CompletableFuture<TransportResponse> send(@Nonnull TransportRequest request){
+        CompletableFuture<HttpResponse<String>> call = getClient(request).sendAsync(newRequest(request), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        future.whenComplete((response, ex) -> {
+            if(future.isCancelled())
+                call.cancel(true);
+        });
+        
+        call.whenComplete((response, ex) -> {
+            if(ex != null)
+                future.completeExceptionally(translate(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex));
+            else
+                future.complete(toResponse(response));
+        });
+        
+        return future;
+    }
+    
+    @Override
+    public TransportResponse execute(@Nonnull TransportRequest request) throws IOException{
+        try{
+            return toResponse(getClient(request).send(newRequest(request), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8)));
+        }catch(HttpTimeoutException ex){
+            throw (IOException)translate(ex);
+        }catch(InterruptedException ex){
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a response from " + request.getUrl());
+        }
+    }
+    
+    // The HttpClient can only be closed since Java 21.
+    @Override
+    public void close(){
+        if(!owned)
+            return;
+        
+        close(client);
+        connectClients.values().forEach(JdkHttpTransport::close);
+        
+        if(executor != null)
+            executor.shutdown();
+    }
+    
+    private static void close(HttpClient client){
+        if(client instanceof AutoCloseable){
+            try{
+                ((AutoCloseable)client).close();
+            }catch(Exception ignored){}
+        }
+    }
+    
+    // Without a connect timeout, connecting is only limited by the timeout of the request.
+    private HttpClient newClient(@Nullable Duration connectTimeout){
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2);
+        
+        if(connectTimeout != null)
+            builder.connectTimeout(connectTimeout);
+        if(executor != null)
+            builder.executor(executor);
+        
+        return builder.build();
+    }
+    
+    /*
+     * A connect timeout only needs a client of its own when it's lower than the timeout of the request. All of them
+     * share the executor, but each client has its own connections.
+     */
+    private HttpClient getClient(TransportRequest request){
+        long connectTimeout = request.getConnectTimeout();
+        if(!owned || connectTimeout <= 0 || connectTimeout >= getTimeout(request))
+            return client;
+        
+        return connectClients.computeIfAbsent(connectTimeout, timeout -> newClient(Duration.ofMillis(timeout)));
+    }
+    
+    private static long getTimeout(TransportRequest request){
+        return request.getTimeout() > 0 ? request.getTimeout() : TimeoutSettings.DEFAULT_MAX_TIMEOUT_PER_SITE;
+    }
+    
+    private static HttpRequest newRequest(TransportRequest request){
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.getUrl()));
+        request.getHeaders().forEach(builder::setHeader);
+        
+        byte[] body = request.getBody();
+        if(body != null)
+            builder.POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        
+        return builder.timeout(Duration.ofMillis(getTimeout(request))).build();
+    }
+    
+    // Timeouts are reported as InterruptedIOException, like by OkHttp.
+    private static Throwable translate(Throwable ex){
+        if(!(ex instanceof HttpTimeoutException))
+            return ex;
+        
+        SocketTimeoutException timeout = new SocketTimeoutException(ex.getMessage());
+        timeout.initCause(ex);
+        return timeout;
+    }
+    
+    private static TransportResponse toResponse(HttpResponse<String> response){
+        Map<String, String> headers = new HashMap<>();
+        for(Map.Entry<String, List<String>> header : response.headers().map().entrySet()){
+            if(!header.getValue().isEmpty())
+                headers.put(header.getKey(), header.getValue().get(0));
+        }
+        
+        return new TransportResponse(
+                response.statusCode(),
+                getReason(response.statusCode()),
+                response.version() == HttpClient.Version.HTTP_2 ? "h2" : "http/1.1",
+                headers,
+                response.body() == null ? "" : response.body()
+        );
+    }
+    
+    // The HttpClient doesn't provide the reason phrase, so the ones of the codes returned by the API are added here.
+    private static String getReason(int code){
+        switch(code){
+            case 200:
+                return "OK";
+            case 304:
+                return "Not Modified";
+            case 400:
+                return "Bad Request";
+            case 401:
+                return "Unauthorized";
+            case 403:
+                return "Forbidden";
+            case 404:
+                return "Not Found";
+            case 429:
+                return "Too Many Requests";
+            case 500:
+                return "Internal Server Error";
+            case 502:
+                return "Bad Gateway";
+            case 503:
+                return "Service Unavailable";
+            case 504:
+                return "Gateway Timeout";
+            default:
+                return "";
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.transport;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.botblock.javabotblockapi.requests.handler.Threads;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link org.botblock.javabotblockapi.requests.transport.HttpTransport HttpTransport} using
+ * <a href="https://square.github.io/okhttp/" target="_blank">OkHttp</a>. This is the default transport.
+ * <br>The connect timeout and the read and write timeouts can be set for every request.
+ *
+ * <p>OkHttp isn't exposed as a dependency of this library. It is used by default when it's on the runtime classpath,
+ * but using this class directly requires OkHttp as a dependency of your own project.
+ *
+ * <p>When virtual threads are enabled with {@code -Djavabotblockapi.virtualThreads=true} and supported by the JVM, does
+ * the dispatcher of the created OkHttpClient run the calls on them.
+ *
+ * @since 6.8.0
+ */
+public final class OkHttpTransport implements HttpTransport{
+    
+    private static final int MAX_REQUESTS = 64;
+    
+    private final OkHttpClient client;
+    private final boolean owned;
+    
+    /**
+     * Creates a new transport with its own OkHttpClient, which is shut down on {@link #close() close()}.
+     */
+    public OkHttpTransport(){
+        // Blocking GET requests are executed through the dispatcher too, so it needs more than the default
+        // of 5 concurrent requests per host.
+        ExecutorService executor = Threads.newExecutor();
+        Dispatcher dispatcher = executor == null ? new Dispatcher() : new Dispatcher(executor);
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS);
+        
+        this.client = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .addInterceptor(OkHttpTransport::applyTimeout)
+                .build();
+        this.owned = true;
+    }
+    
+    /**
+     * Creates a new transport using the provided OkHttpClient. Its connection pool and dispatcher are shared with it.
+     * <br>The provided client isn't shut down on {@link #close() close()}.
+     *
+     * @param client
+     *        The OkHttpClient to use.
+     */
+    public OkHttpTransport(@Nonnull OkHttpClient client){
+        this.client = client.newBuilder()
+                .addInterceptor(OkHttpTransport::applyTimeout)
+                .build();
+        this.owned = false;
+    }
+    
+    @Override
+    public CompletableFuture<TransportResponse> send(@Nonnull TransportRequest request){
+        Call call = newCall(request);
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        future.whenComplete((response, ex) -> {
+            if(future.isCancelled())
+                call.cancel();
+        });
+        
+        call.enqueue(new Callback(){
+            @Override
+            public void onFailure(@Nonnull Call call, @Nonnull IOException ex){
+                future.completeExceptionally(ex);
+            }
+            
+            @Override
+            public void onResponse(@Nonnull Call call, @Nonnull Response response){
+                try(Response res = response){
+                    future.complete(toResponse(res));
+                }catch(IOException | RuntimeException ex){
+                    future.completeExceptionally(ex);
+                }
+            }
+        });
+        
+        return future;
+    }
+    
+    // Blocking requests are performed on the calling thread, like with Call.execute().
+    @Override
+    public TransportResponse execute(@Nonnull TransportRequest request) throws IOException{
+        try(Response response = newCall(request).execute()){
+            return toResponse(response);
+        }
+    }
+    
+    @Override
+    public void close(){
+        if(!owned)
+            return;
+        
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+    
+    private Call newCall(TransportRequest request){
+        Request.Builder builder = new Request.Builder().url(request.getUrl());
+        request.getHeaders().forEach(builder::header);
+        
+        byte[] body = request.getBody();
+        if(body != null)
+            builder.post(RequestBody.create(body, null));
+        if(request.getTimeout() > 0 || request.getConnectTimeout() > 0)
+            builder.tag(TransportRequest.class, request);
+        
+        Call call = client.newCall(builder.build());
+        if(request.getTimeout() > 0)
+            call.timeout().timeout(request.getTimeout(), TimeUnit.MILLISECONDS);
+        
+        return call;
+    }
+    
+    /*
+     * Read and write timeouts of a single call can only be changed from within an interceptor. Requests with timeouts
+     * get them applied here, so they don't need a client of their own. The timeout of the whole call is set through
+     * Call.timeout().
+     */
+    private static Response applyTimeout(Interceptor.Chain chain) throws IOException{
+        TransportRequest request = chain.request().tag(TransportRequest.class);
+        if(request == null)
+            return chain.proceed(chain.request());
+        
+        if(request.getConnectTimeout() > 0)
+            chain = chain.withConnectTimeout(toInt(request.getConnectTimeout()), TimeUnit.MILLISECONDS);
+        if(request.getTimeout() > 0)
+            chain = chain.withReadTimeout(toInt(request.getTimeout()), TimeUnit.MILLISECONDS)
+                    .withWriteTimeout(toInt(request.getTimeout()), TimeUnit.MILLISECONDS);
+        
+        return chain.proceed(chain.request());
+    }
+    
+    private static TransportResponse toResponse(Response response) throws IOException{
+        Map<String, String> headers = new HashMap<>();
+        for(String name : response.headers().names())
+            headers.put(name, response.header(name));
+        
+        ResponseBody body = response.body();
+        return new TransportResponse(
+                response.code(),
+                response.message(),
+                response.protocol().toString(),
+                headers,
+                body == null ? "" : body.string()
+        );
+    }
+    
+    private static int toInt(long millis){
+        return (int)Math.min(millis, Integer.MAX_VALUE);
+    }
+}
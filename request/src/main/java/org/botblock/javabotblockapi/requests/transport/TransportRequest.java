@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.transport;
+
+import org.botblock.javabotblockapi.core.CheckUtil;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A request towards the BotBlock API, sent through a {@link org.botblock.javabotblockapi.requests.transport.HttpTransport HttpTransport}.
+ * <br>Requests with a body are POST requests, all others GET requests.
+ *
+ * <p>Use the {@link org.botblock.javabotblockapi.requests.transport.TransportRequest.Builder TransportRequest.Builder} class for easy creation.
+ *
+ * @since 6.8.0
+ */
+public final class TransportRequest{
+    
+    private final String url;
+    private final Map<String, String> headers;
+    private final byte[] body;
+    private final long timeout;
+    private final long connectTimeout;
+    
+    private TransportRequest(String url, Map<String, String> headers, byte[] body, long timeout, long connectTimeout){
+        this.url = url;
+        this.headers = Collections.unmodifiableMap(headers);
+        this.body = body;
+        this.timeout = timeout;
+        this.connectTimeout = connectTimeout;
+    }
+    
+    /**
+     * The HTTP method of this request.
+     *
+     * @return {@code POST} when this request has a body, {@code GET} otherwise.
+     */
+    public String getMethod(){
+        return body == null ? "GET" : "POST";
+    }
+    
+    /**
+     * The URL this request is sent to.
+     *
+     * @return String containing the URL.
+     */
+    public String getUrl(){
+        return url;
+    }
+    
+    /**
+     * The headers of this request.
+     *
+     * @return Unmodifiable Map containing the name and value of every header.
+     */
+    public Map<String, String> getHeaders(){
+        return headers;
+    }
+    
+    /**
+     * The body of this request. The returned array must not be modified.
+     *
+     * @return Possibly-null byte array containing the body.
+     */
+    @Nullable
+    public byte[] getBody(){
+        return body;
+    }
+    
+    /**
+     * The time in milliseconds the whole request may take, or {@code 0} to use the default of the transport.
+     *
+     * @return The timeout of this request in milliseconds.
+     */
+    public long getTimeout(){
+        return timeout;
+    }
+    
+    /**
+     * The time in milliseconds connecting to the API may take, or {@code 0} to use the default of the transport.
+     * <br>Transports which can't change it for a single request use their default.
+     *
+     * @return The connect timeout of this request in milliseconds.
+     */
+    public long getConnectTimeout(){
+        return connectTimeout;
+    }
+    
+    /**
+     * Builder class to create an instance of {@link org.botblock.javabotblockapi.requests.transport.TransportRequest TransportRequest}
+     */
+    public static class Builder{
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private String url = null;
+        private byte[] body = null;
+        private long timeout = 0;
+        private long connectTimeout = 0;
+        
+        /**
+         * Empty constructor to get the class.
+         */
+        public Builder(){}
+        
+        /**
+         * Sets the URL the request is sent to.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided URL is empty.</li>
+         * </ul>
+         *
+         * @param  url
+         *         The URL to send the request to.
+         *
+         * @return The Builder after the URL was set. Useful for chaining.
+         */
+        public Builder setUrl(@Nonnull String url){
+            CheckUtil.notEmpty(url, "URL");
+            
+            this.url = url;
+            return this;
+        }
+        
+        /**
+         * Sets the header with the provided name, replacing any previous value of it.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.NullPointerException NullPointerException} - When the provided name is empty.</li>
+         * </ul>
+         *
+         * @param  name
+         *         The name of the header.
+         * @param  value
+         *         The value of the header.
+         *
+         * @return The Builder after the header was set. Useful for chaining.
+         */
+        public Builder setHeader(@Nonnull String name, @Nonnull String value){
+            CheckUtil.notEmpty(name, "Name");
+            
+            headers.put(name, value);
+            return this;
+        }
+        
+        /**
+         * Sets the body of the request, which makes it a POST request.
+         * <br>The provided array is used as-is and must not be modified afterwards.
+         *
+         * @param  body
+         *         The body of the request.
+         *
+         * @return The Builder after the body was set. Useful for chaining.
+         */
+        public Builder setBody(@Nonnull byte[] body){
+            this.body = body;
+            return this;
+        }
+        
+        /**
+         * Sets the timeouts of the request in milliseconds. {@code 0} uses the default of the transport.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.IllegalStateException IllegalStateException} - When one of the provided timeouts is negative.</li>
+         * </ul>
+         *
+         * @param  timeout
+         *         The time the whole request may take.
+         * @param  connectTimeout
+         *         The time connecting to the API may take.
+         *
+         * @return The Builder after the timeouts were set. Useful for chaining.
+         */
+        public Builder setTimeout(long timeout, long connectTimeout){
+            CheckUtil.condition(timeout < 0 || connectTimeout < 0, "The timeouts may not be negative!");
+            
+            this.timeout = timeout;
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+        
+        /**
+         * Builds the instance of {@link org.botblock.javabotblockapi.requests.transport.TransportRequest TransportRequest}
+         * using the provided values.
+         *
+         * <p>Following Exceptions can be thrown from the CheckUtil:
+         * <ul>
+         *     <li>{@link java.lang.NullPointerException NullPointerException} - When no URL was set.</li>
+         * </ul>
+         *
+         * @return The built, usable {@link org.botblock.javabotblockapi.requests.transport.TransportRequest TransportRequest}.
+         */
+        public TransportRequest build(){
+            CheckUtil.notEmpty(url, "URL");
+            
+            return new TransportRequest(url, new LinkedHashMap<>(headers), body, timeout, connectTimeout);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.transport;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A response of the BotBlock API, received through a {@link org.botblock.javabotblockapi.requests.transport.HttpTransport HttpTransport}.
+ *
+ * @since 6.8.0
+ */
+public final class TransportResponse{
+    
+    private final int code;
+    private final String message;
+    private final String protocol;
+    private final Map<String, String> headers;
+    private final String body;
+    
+    /**
+     * Creates a new response.
+     *
+     * @param code
+     *        The HTTP status code.
+     * @param message
+     *        The reason phrase of the status code, or an empty String when it isn't known.
+     * @param protocol
+     *        The protocol the response was received with, e.g. {@code h2}.
+     * @param headers
+     *        The headers of the response. Only the first value of every header is needed.
+     * @param body
+     *        The body of the response, or an empty String when it had none.
+     */
+    public TransportResponse(int code, @Nonnull String message, @Nonnull String protocol, @Nonnull Map<String, String> headers,
+                             @Nonnull String body){
+        Map<String, String> caseInsensitive = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitive.putAll(headers);
+        
+        this.code = code;
+        this.message = message;
+        this.protocol = protocol;
+        this.headers = Collections.unmodifiableMap(caseInsensitive);
+        this.body = body;
+    }
+    
+    /**
+     * The HTTP status code of this response.
+     *
+     * @return The HTTP status code.
+     */
+    public int getCode(){
+        return code;
+    }
+    
+    /**
+     * The reason phrase of the status code, e.g. {@code Bad Gateway}.
+     *
+     * @return String containing the reason phrase. May be empty.
+     */
+    public String getMessage(){
+        return message;
+    }
+    
+    /**
+     * The protocol this response was received with.
+     *
+     * @return String containing the protocol.
+     */
+    public String getProtocol(){
+        return protocol;
+    }
+    
+    /**
+     * The value of the header with the provided name. The name isn't case-sensitive.
+     *
+     * @param  name
+     *         The name of the header.
+     *
+     * @return Possibly-null String containing the value of the header.
+     */
+    @Nullable
+    public String getHeader(@Nonnull String name){
+        return headers.get(name);
+    }
+    
+    /**
+     * The headers of this response.
+     *
+     * @return Unmodifiable Map containing the name and value of every header.
+     */
+    public Map<String, String> getHeaders(){
+        return headers;
+    }
+    
+    /**
+     * The body of this response.
+     *
+     * @return String containing the body, or an empty String when the response had none.
+     */
+    public String getBody(){
+        return body;
+    }
+    
+    /**
+     * Whether the status code of this response is in the range 200 to 299.
+     *
+     * @return True when the request was successful, false otherwise.
+     */
+    public boolean isSuccessful(){
+        return code >= 200 && code < 300;
+    }
+    
+    /**
+     * Returns this class formatted to a String.
+     *
+     * @return {@code TransportResponse{protocol=<protocol>, code=<code>, message=<message>, headers=<headers>}}
+     */
+    @Override
+    public String toString(){
+        return "TransportResponse{" +
+                "protocol=" + protocol +
+                ", code=" + code +
+                ", message=" + message +
+                ", headers=" + headers +
+                "}";
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Contains the {@link org.botblock.javabotblockapi.requests.transport.HttpTransport HttpTransport} SPI, which the actions
+ * use to send their requests, and its OkHttp and java.net.http implementations.
+ * <br>OkHttp is used by default. To use the JDK HttpClient instead, either exclude OkHttp from the dependencies or
+ * register {@code org.botblock.javabotblockapi.requests.transport.JdkHttpTransport} in a
+ * {@code META-INF/services/org.botblock.javabotblockapi.requests.transport.HttpTransport} file.
+ */
+package org.botblock.javabotblockapi.requests.transport;
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests;
+
+import org.botblock.javabotblockapi.core.BotBlockAPI;
+import org.botblock.javabotblockapi.core.exceptions.RateLimitedException;
+import org.botblock.javabotblockapi.emulator.BotBlockEmulator;
+import org.botblock.javabotblockapi.emulator.BotBlockEmulator.Endpoint;
+import org.botblock.javabotblockapi.requests.objects.PostResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostActionTest{
+    
+    private static final String BOT_ID = "123";
+    
+    private BotBlockEmulator emulator;
+    private BotBlockAPI api;
+    private PostAction postAction;
+    
+    @BeforeEach
+    void setUp() throws IOException{
+        emulator = new BotBlockEmulator();
+        emulator.setRateLimit(Endpoint.COUNT, 500, TimeUnit.MILLISECONDS);
+        
+        api = new BotBlockAPI.Builder()
+                .addAuthToken("one.xyz", "token")
+                .build();
+        
+        postAction = new PostAction(BOT_ID);
+        postAction.setBaseUrl(emulator.getBaseUrl());
+    }
+    
+    @AfterEach
+    void tearDown(){
+        postAction.disableAutoPost();
+        emulator.close();
+    }
+    
+    @Test
+    void failFastRejectsPostsWithoutSendingThem() throws IOException{
+        postAction.setRateLimitMode(RateLimitMode.FAIL_FAST);
+        
+        assertNotNull(postAction.postGuildsWithResult(BOT_ID, 10, api));
+        assertThrows(RateLimitedException.class, () -> postAction.postGuildsWithResult(BOT_ID, 10, api));
+        assertEquals(2, emulator.getRequestCount(Endpoint.COUNT));
+        
+        RateLimitedException ex = assertThrows(RateLimitedException.class, () -> postAction.postGuildsWithResult(BOT_ID, 10, api));
+        assertTrue(ex.getDelay() > 0);
+        assertEquals(2, emulator.getRequestCount(Endpoint.COUNT), "The rate limited post should not be sent to the API");
+    }
+    
+    @Test
+    void waitDelaysPostsUntilTheRateLimitPassed() throws IOException{
+        postAction.setRateLimitMode(RateLimitMode.WAIT);
+        
+        assertNotNull(postAction.postGuildsWithResult(BOT_ID, 10, api));
+        assertThrows(RateLimitedException.class, () -> postAction.postGuildsWithResult(BOT_ID, 10, api));
+        
+        long start = System.nanoTime();
+        PostResult result = postAction.postGuildsWithResult(BOT_ID, 10, api);
+        
+        assertNotNull(result);
+        assertTrue(result.isSuccess());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200), "The post should wait for the rate limit");
+        assertEquals(3, emulator.getRequestCount(Endpoint.COUNT));
+    }
+    
+    @Test
+    void queuePerformsPostsOneAfterAnother() throws IOException{
+        postAction.setRateLimitMode(RateLimitMode.QUEUE);
+        
+        assertNotNull(postAction.postGuildsWithResult(BOT_ID, 10, api));
+        long start = System.nanoTime();
+        RateLimitedException rateLimit = assertThrows(RateLimitedException.class, () -> postAction.postGuildsWithResult(BOT_ID, 10, api));
+        
+        emulator.setRateLimit(Endpoint.COUNT, 0, TimeUnit.MILLISECONDS);
+        emulator.setLatency(Endpoint.COUNT, 200, 200, TimeUnit.MILLISECONDS);
+        
+        List<CompletableFuture<PostResult>> posts = new ArrayList<>();
+        for(int i = 0; i < 3; i++){
+            posts.add(CompletableFuture.supplyAsync(() -> {
+                try{
+                    return postAction.postGuildsWithResult(BOT_ID, 10, api);
+                }catch(IOException ex){
+                    throw new RuntimeException(ex);
+                }
+            }));
+        }
+        
+        posts.forEach(post -> assertTrue(post.join().isSuccess()));
+        // Posts running at the same time would take the latency of the emulator only once.
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsed >= rateLimit.getDelay() + 500, "The queued posts should not overlap, but took " + elapsed + "ms");
+        assertEquals(5, emulator.getRequestCount(Endpoint.COUNT));
+    }
+    
+    @Test
+    void failingSitesAreLeftOutUntilTheyRecover() throws IOException, InterruptedException{
+        emulator.setRateLimit(Endpoint.COUNT, 0, TimeUnit.MILLISECONDS);
+        emulator.setFailingSite("two.xyz", 500, "Internal Server Error");
+        BotBlockAPI breaker = new BotBlockAPI.Builder()
+                .addAuthToken("one.xyz", "token")
+                .addAuthToken("two.xyz", "token")
+                .setCircuitBreaker(2, 300, TimeUnit.MILLISECONDS)
+                .build();
+        
+        // The circuit opens after two failed posts in a row.
+        for(int i = 0; i < 2; i++){
+            PostResult result = postAction.postGuildsWithResult(BOT_ID, 10, breaker);
+            assertTrue(result.getFailures().containsKey("two.xyz"));
+        }
+        
+        postAction.postGuildsWithResult(BOT_ID, 10, breaker);
+        assertFalse(emulator.getLastPost().has("two.xyz"), "An open circuit should leave the site out");
+        assertTrue(emulator.getLastPost().has("one.xyz"));
+        
+        // Once the open time passed is the site probed again, and a failed probe opens the circuit right away.
+        TimeUnit.MILLISECONDS.sleep(350);
+        postAction.postGuildsWithResult(BOT_ID, 10, breaker);
+        assertTrue(emulator.getLastPost().has("two.xyz"), "A half-open circuit should include the site");
+        
+        postAction.postGuildsWithResult(BOT_ID, 10, breaker);
+        assertFalse(emulator.getLastPost().has("two.xyz"), "A failed probe should open the circuit again");
+        
+        // A successful probe closes the circuit.
+        TimeUnit.MILLISECONDS.sleep(350);
+        emulator.removeFailingSite("two.xyz");
+        assertTrue(postAction.postGuildsWithResult(BOT_ID, 10, breaker).isSuccess());
+        
+        postAction.postGuildsWithResult(BOT_ID, 10, breaker);
+        assertTrue(emulator.getLastPost().has("two.xyz"), "A closed circuit should include the site");
+    }
+}
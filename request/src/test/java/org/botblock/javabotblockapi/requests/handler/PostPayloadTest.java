@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.botblock.javabotblockapi.core.BotBlockAPI;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostPayloadTest{
+    
+    private static final String BOT_ID = "123456789012345678";
+    
+    private RequestHandler handler;
+    private BotBlockAPI api;
+    private PostTemplate template;
+    
+    @BeforeEach
+    void setUp(){
+        api = new BotBlockAPI.Builder()
+                .addAuthToken("one.xyz", "token")
+                .addAuthToken("two.xyz", "to\"ken\\with/\u00e9scapes")
+                .build();
+        
+        handler = new RequestHandler("JavaBotBlockAPI-Test");
+        template = handler.getPostTemplate(BOT_ID, api);
+    }
+    
+    @AfterEach
+    void tearDown(){
+        handler.close();
+    }
+    
+    @Test
+    void payloadMatchesJsonObject(){
+        for(long serverCount : new long[]{0, 7, 1000, Long.MAX_VALUE}){
+            JSONObject expected = json(serverCount);
+            
+            assertPayload(expected, template.payload(serverCount));
+        }
+    }
+    
+    @Test
+    void shardPayloadMatchesJsonObject(){
+        JSONObject expected = json(1500)
+                .put("shard_id", 0)
+                .put("shard_count", 10);
+        
+        assertPayload(expected, template.payload(1500, 0, 10));
+    }
+    
+    @Test
+    void shardsPayloadMatchesJsonObject(){
+        long[] counts = {0, 9, 10, 999, 1000, 123456789};
+        JSONObject expected = json(123458203)
+                .put("shard_count", counts.length)
+                .put("shards", new JSONArray(counts));
+        
+        assertPayload(expected, template.payload(123458203, ShardCounts.of(counts)));
+    }
+    
+    private JSONObject json(long serverCount){
+        JSONObject json = new JSONObject()
+                .put("server_count", serverCount)
+                .put("bot_id", BOT_ID);
+        api.getTokens().forEach(json::put);
+        
+        return json;
+    }
+    
+    private static void assertPayload(JSONObject expected, PostPayload payload){
+        byte[] bytes = payload.toByteArray();
+        JSONObject actual = new JSONObject(new String(bytes, StandardCharsets.UTF_8));
+        
+        assertEquals(bytes.length, payload.contentLength());
+        assertTrue(expected.similar(actual), "Expected " + expected + " but was " + actual);
+    }
+}
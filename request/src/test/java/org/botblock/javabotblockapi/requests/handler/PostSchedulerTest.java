@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSchedulerTest{
+    
+    @Test
+    void schedulersShareOneTimerThread() throws InterruptedException{
+        List<PostScheduler> schedulers = new ArrayList<>();
+        CountDownLatch runs = new CountDownLatch(200 * 2);
+        for(int i = 0; i < 200; i++){
+            PostScheduler scheduler = new PostScheduler();
+            scheduler.schedule(runs::countDown, 0, 50, TimeUnit.MILLISECONDS, 10);
+            schedulers.add(scheduler);
+        }
+        
+        try{
+            assertTrue(runs.await(5, TimeUnit.SECONDS));
+            assertEquals(1, countThreads("JavaBotBlockAPI-AutoPost-Timer-"));
+        }finally{
+            schedulers.forEach(PostScheduler::cancel);
+        }
+    }
+    
+    @Test
+    void runsOfATaskDoNotOverlap() throws InterruptedException{
+        PostScheduler scheduler = new PostScheduler();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        CountDownLatch runs = new CountDownLatch(5);
+        
+        // Each run takes longer than the period.
+        scheduler.schedule(() -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            sleep(30);
+            active.decrementAndGet();
+            runs.countDown();
+        }, 0, 5, TimeUnit.MILLISECONDS, 0);
+        
+        try{
+            assertTrue(runs.await(5, TimeUnit.SECONDS));
+            assertEquals(1, maxActive.get());
+        }finally{
+            scheduler.cancel();
+        }
+    }
+    
+    @Test
+    void cancelOnlyStopsOwnTasks() throws InterruptedException{
+        PostScheduler cancelled = new PostScheduler();
+        PostScheduler running = new PostScheduler();
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        AtomicInteger runningRuns = new AtomicInteger();
+        
+        cancelled.schedule(cancelledRuns::incrementAndGet, 0, 20, TimeUnit.MILLISECONDS, 0);
+        running.schedule(runningRuns::incrementAndGet, 0, 20, TimeUnit.MILLISECONDS, 0);
+        
+        try{
+            TimeUnit.MILLISECONDS.sleep(100);
+            cancelled.cancel();
+            assertTrue(cancelled.awaitTermination(1, TimeUnit.SECONDS));
+            
+            int before = cancelledRuns.get();
+            int runningBefore = runningRuns.get();
+            TimeUnit.MILLISECONDS.sleep(100);
+            
+            assertEquals(before, cancelledRuns.get(), "A cancelled task should not run again");
+            assertTrue(runningRuns.get() > runningBefore, "Tasks of other schedulers should keep running");
+        }finally{
+            running.cancel();
+        }
+    }
+    
+    @Test
+    void awaitTerminationWaitsForRunningTasks() throws InterruptedException{
+        PostScheduler scheduler = new PostScheduler();
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger finished = new AtomicInteger();
+        
+        scheduler.execute(() -> {
+            started.countDown();
+            sleep(200);
+            finished.incrementAndGet();
+        });
+        
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        scheduler.cancel();
+        assertTrue(scheduler.awaitTermination(1, TimeUnit.SECONDS));
+        assertEquals(1, finished.get());
+    }
+    
+    private static long countThreads(String prefix){
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith(prefix))
+                .count();
+    }
+    
+    private static void sleep(long millis){
+        try{
+            TimeUnit.MILLISECONDS.sleep(millis);
+        }catch(InterruptedException ex){
+            Thread.currentThread().interrupt();
+        }
+    }
+}
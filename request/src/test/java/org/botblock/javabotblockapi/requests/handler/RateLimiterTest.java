@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.botblock.javabotblockapi.core.exceptions.RateLimitedException;
+import org.botblock.javabotblockapi.requests.RateLimitMode;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest{
+    
+    private static final String KEY = RateLimiter.getKey("http://localhost/api/count", "123");
+    
+    @Test
+    void expiredWindowsAreRemoved() throws Exception{
+        RateLimiter limiter = new RateLimiter();
+        limiter.limit(KEY, rateLimit(100));
+        
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> limiter.acquire(KEY, RateLimitMode.FAIL_FAST).get());
+        assertTrue(ex.getCause() instanceof RateLimitedException);
+        assertEquals(1, limiter.size());
+        
+        TimeUnit.MILLISECONDS.sleep(150);
+        limiter.acquire(KEY, RateLimitMode.FAIL_FAST).get().run();
+        assertEquals(0, limiter.size(), "The expired window should be removed once it was checked");
+    }
+    
+    @Test
+    void queuedWindowsAreKeptUntilReleased() throws Exception{
+        RateLimiter limiter = new RateLimiter();
+        limiter.limit(KEY, rateLimit(50));
+        
+        Runnable permit = limiter.acquire(KEY, RateLimitMode.QUEUE).get(1, TimeUnit.SECONDS);
+        CompletableFuture<Runnable> next = limiter.acquire(KEY, RateLimitMode.QUEUE);
+        assertFalse(next.isDone(), "The next request should wait for the permit to be released");
+        assertEquals(1, limiter.size());
+        
+        permit.run();
+        next.get(1, TimeUnit.SECONDS).run();
+        
+        limiter.acquire(KEY, RateLimitMode.QUEUE).get().run();
+        assertEquals(0, limiter.size());
+    }
+    
+    @Test
+    void rateLimitAfterRemovalIsKept() throws Exception{
+        RateLimiter limiter = new RateLimiter();
+        limiter.limit(KEY, rateLimit(1));
+        
+        TimeUnit.MILLISECONDS.sleep(10);
+        limiter.acquire(KEY, RateLimitMode.FAIL_FAST).get();
+        limiter.limit(KEY, rateLimit(1000));
+        
+        assertTrue(limiter.acquire(KEY, RateLimitMode.FAIL_FAST).isCompletedExceptionally());
+    }
+    
+    private static RateLimitedException rateLimit(long delay){
+        return new RateLimitedException(new JSONObject()
+                .put("retry_after", delay)
+                .put("ratelimit_route", "/api/count")
+                .put("ratelimit_bot_id", "123"));
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019 - 2020 Andre601
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.botblock.javabotblockapi.requests.handler;
+
+import org.botblock.javabotblockapi.core.BotBlockAPI;
+import org.botblock.javabotblockapi.emulator.BotBlockEmulator;
+import org.botblock.javabotblockapi.emulator.BotBlockEmulator.Endpoint;
+import org.botblock.javabotblockapi.requests.CacheSettings;
+import org.botblock.javabotblockapi.requests.objects.BotInfo;
+import org.botblock.javabotblockapi.requests.objects.ListInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestHandlerTest{
+    
+    private BotBlockEmulator emulator;
+    private RequestHandler handler;
+    
+    @BeforeEach
+    void setUp() throws IOException{
+        emulator = new BotBlockEmulator();
+        emulator.addList("one.xyz");
+        emulator.addList("two.xyz");
+        
+        handler = new RequestHandler("JavaBotBlockAPI-Test", CacheSettings.getDefault());
+    }
+    
+    @AfterEach
+    void tearDown(){
+        handler.close();
+        emulator.close();
+    }
+    
+    @Test
+    void cachedRequestsFollowSetBaseUrl(){
+        handler.setBaseUrl(emulator.getBaseUrl());
+        
+        BotInfo bot = handler.performGetBotInfo("123", false);
+        assertNotNull(bot);
+        assertEquals(1, emulator.getRequestCount(Endpoint.BOTS));
+        
+        Map<String, ListInfo> lists = handler.performGetListInfos(false, false);
+        assertEquals(2, lists.size());
+        assertEquals(1, emulator.getRequestCount(Endpoint.LISTS));
+        
+        ListInfo list = handler.performGetListInfo("one.xyz", false);
+        assertEquals("one.xyz", list.getId());
+        assertEquals(0, emulator.getRequestCount(Endpoint.LIST), "A single list should be taken from the cached lists");
+    }
+    
+    @Test
+    void cachedResponsesAreNotRequestedAgain(){
+        handler.setBaseUrl(emulator.getBaseUrl());
+        
+        handler.performGetBotInfo("123", false);
+        handler.performGetBot("123", false);
+        handler.performGetBotInfoAsync("123", false).join();
+        
+        assertEquals(1, emulator.getRequestCount(Endpoint.BOTS));
+    }
+    
+    @Test
+    void cachedJsonIsNotParsedAgain(){
+        handler.setBaseUrl(emulator.getBaseUrl());
+        
+        assertSame(handler.performGetList(null, false, false), handler.performGetList(null, false, false));
+        assertSame(handler.performGetList("one.xyz", false, false), handler.performGetList("one.xyz", false, false));
+        assertSame(handler.performGetBot("123", false), handler.performGetBot("123", false));
+        assertEquals(1, emulator.getRequestCount(Endpoint.LISTS));
+        assertEquals(0, emulator.getRequestCount(Endpoint.LIST));
+    }
+    
+    @Test
+    void concurrentRequestsShareOneCall(){
+        handler.setBaseUrl(emulator.getBaseUrl());
+        emulator.setLatency(Endpoint.BOTS, 300, 300, TimeUnit.MILLISECONDS);
+        
+        List<CompletableFuture<BotInfo>> uncached = new ArrayList<>();
+        for(int i = 0; i < 8; i++)
+            uncached.add(handler.performGetBotInfoAsync("123", true));
+        
+        uncached.forEach(future -> assertEquals("123", future.join().getId()));
+        assertEquals(1, emulator.getRequestCount(Endpoint.BOTS), "Concurrent requests without cache should share one call");
+        
+        List<CompletableFuture<BotInfo>> cached = new ArrayList<>();
+        for(int i = 0; i < 8; i++)
+            cached.add(handler.performGetBotInfoAsync("456", false));
+        
+        cached.forEach(future -> assertEquals("456", future.join().getId()));
+        assertEquals(2, emulator.getRequestCount(Endpoint.BOTS), "Concurrent cache misses should share one call");
+    }
+    
+    @Test
+    void staleResponsesAreServedWhileRefreshing() throws InterruptedException{
+        CacheSettings settings = new CacheSettings.Builder()
+                .setExpireAfter(200, TimeUnit.MILLISECONDS)
+                .setMaxStaleness(1, TimeUnit.MINUTES)
+                .build();
+        
+        RequestHandler stale = new RequestHandler("JavaBotBlockAPI-Test", settings, emulator.getBaseUrl());
+        try{
+            BotInfo first = stale.performGetBotInfo("123", false);
+            assertNotNull(first);
+            
+            TimeUnit.MILLISECONDS.sleep(300);
+            emulator.setLatency(Endpoint.BOTS, 1, 1, TimeUnit.SECONDS);
+            
+            long start = System.nanoTime();
+            assertSame(first, stale.performGetBotInfo("123", false));
+            assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500), "The stale response should be served right away");
+            
+            // The refresh runs in the background and replaces the stale response once it completed.
+            for(int i = 0; i < 30 && stale.performGetBotInfo("123", false) == first; i++)
+                TimeUnit.MILLISECONDS.sleep(100);
+            
+            assertNotSame(first, stale.performGetBotInfo("123", false));
+            assertEquals(2, emulator.getRequestCount(Endpoint.BOTS));
+        }finally{
+            stale.close();
+        }
+    }
+    
+    @Test
+    void unchangedPayloadsAreSkipped() throws IOException{
+        handler.setBaseUrl(emulator.getBaseUrl());
+        BotBlockAPI api = new BotBlockAPI.Builder()
+                .addAuthToken("one.xyz", "token")
+                .setSkipUnchanged(true)
+                .setForcePostInterval(3)
+                .build();
+        
+        // An unchanged payload is only posted again on every third interval.
+        for(int i = 0; i < 4; i++)
+            handler.performAutoPOST(handler.getPostTemplate("123", api).payload(10), api);
+        assertEquals(2, emulator.getRequestCount(Endpoint.COUNT));
+        
+        handler.performAutoPOST(handler.getPostTemplate("123", api).payload(11), api);
+        assertEquals(3, emulator.getRequestCount(Endpoint.COUNT), "A changed payload should be posted");
+        assertEquals(11, emulator.getLastPost().getLong("server_count"));
+    }
+    
+    @Test
+    void payloadsAreNotSkippedAfterFailedPosts() throws IOException{
+        handler.setBaseUrl(emulator.getBaseUrl());
+        emulator.setFailingSite("one.xyz", 500, "Internal Server Error");
+        BotBlockAPI api = new BotBlockAPI.Builder()
+                .addAuthToken("one.xyz", "token")
+                .setSkipUnchanged(true)
+                .build();
+        
+        handler.performAutoPOST(handler.getPostTemplate("123", api).payload(10), api);
+        handler.performAutoPOST(handler.getPostTemplate("123", api).payload(10), api);
+        assertEquals(2, emulator.getRequestCount(Endpoint.COUNT), "A payload not accepted by all sites should be posted again");
+        
+        emulator.removeFailingSite("one.xyz");
+        handler.performAutoPOST(handler.getPostTemplate("123", api).payload(10), api);
+        handler.performAutoPOST(handler.getPostTemplate("123", api).payload(10), api);
+        assertEquals(3, emulator.getRequestCount(Endpoint.COUNT));
+    }
+    
+    @Test
+    void listSnapshotIsServedAfterRestart(@TempDir Path dir) throws InterruptedException{
+        Path file = dir.resolve("lists.snapshot");
+        CacheSettings settings = new CacheSettings.Builder().setListSnapshot(file).build();
+        
+        RequestHandler first = new RequestHandler("JavaBotBlockAPI-Test", settings, emulator.getBaseUrl());
+        try{
+            assertEquals(2, first.performGetListInfos(false, false).size());
+        }finally{
+            first.close();
+        }
+        
+        // The snapshot is written in the background.
+        for(int i = 0; i < 50 && !Files.exists(file); i++)
+            TimeUnit.MILLISECONDS.sleep(100);
+        assertTrue(Files.exists(file));
+        
+        emulator.setLatency(Endpoint.LISTS, 2, 2, TimeUnit.SECONDS);
+        RequestHandler second = new RequestHandler("JavaBotBlockAPI-Test", settings, emulator.getBaseUrl());
+        try{
+            long start = System.nanoTime();
+            Map<String, ListInfo> lists = second.performGetListInfos(false, false);
+            
+            assertEquals(2, lists.size());
+            assertTrue(lists.containsKey("one.xyz"));
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "The lists should be served from the snapshot");
+        }finally{
+            second.close();
+        }
+    }
+}